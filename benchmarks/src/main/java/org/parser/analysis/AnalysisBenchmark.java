@@ -0,0 +1,142 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.stmt.IfStmt;
+import javafx.util.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.parser.benchmark.BenchmarkInputs;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.catalog.AlgorithmEntry;
+import org.parser.config.RunConfiguration;
+import org.parser.diagnostic.Diagnostics;
+import org.parser.error.ErrorException;
+import org.parser.file.ConversionContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.parser.analysis.AnalysisRecursiveMethod.getRecursiveMethodCall;
+
+/**
+ * <h1> AnalysisBenchmark </h1>
+ * <p>
+ * Measures the checks performed on every pair of user method and catalog algorithm.
+ * Each invocation runs a check on all the recursive methods of the user file, or on all the pairs that match,
+ * so the results grow with the size of the input. This class belongs to the analysis package to reach the protected checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalysisBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkInputs.Size size;
+
+    private List<MethodDeclaration> recursiveMethods;
+    private List<Pair<MethodDeclaration, MethodDeclaration>> matchingPairs;
+    private List<Pair<MethodDeclaration, MethodDeclaration>> conditionPairs;
+
+    /**
+     * Parses the user file of the requested size and matches its methods against the catalog.
+     *
+     * @throws IOException    the io exception
+     * @throws ErrorException the error exception
+     */
+    @Setup
+    public void setUp() throws IOException, ErrorException {
+        AlgorithmCatalog catalog = BenchmarkInputs.loadCatalog();
+        ConversionContext context = new ConversionContext(BenchmarkInputs.writeUserClass(size));
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.OFF);
+
+        recursiveMethods = context.getCompilationUnit().findAll(MethodDeclaration.class).stream()
+                .filter(method -> getRecursiveMethodCall(method) != null)
+                .collect(Collectors.toList());
+
+        matchingPairs = new ArrayList<>();
+        for (Pair<MethodDeclaration, AlgorithmEntry> pair : BenchmarkInputs.retrieveMatchingPairs(context.getCompilationUnit(), catalog)) {
+            matchingPairs.add(new Pair<>(pair.getKey(), pair.getValue().getRecursiveMethod()));
+        }
+        conditionPairs = matchingPairs.stream()
+                .filter(pair -> pair.getKey().findFirst(IfStmt.class).isPresent())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Restores the printing of the diagnostics.
+     */
+    @TearDown
+    public void tearDown() {
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.PRINT);
+    }
+
+    /**
+     * Searches the recursive call of every recursive method, discarding the profile computed by the previous invocation.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void getRecursiveMethodCallBenchmark(Blackhole blackhole) {
+        for (MethodDeclaration method : recursiveMethods) {
+            MethodProfile.invalidate(method);
+            blackhole.consume(getRecursiveMethodCall(method));
+        }
+    }
+
+    /**
+     * Compares the number of constructs of every matching pair.
+     *
+     * @param blackhole the blackhole
+     * @throws ErrorException the error exception
+     */
+    @Benchmark
+    public void compareSizeListsBenchmark(Blackhole blackhole) throws ErrorException {
+        for (Pair<MethodDeclaration, MethodDeclaration> pair : matchingPairs) {
+            blackhole.consume(AnalysisMethod.compareSizeLists(pair.getKey(), pair.getValue()));
+        }
+    }
+
+    /**
+     * Compares all the constructs of every matching pair.
+     *
+     * @param blackhole the blackhole
+     * @throws ErrorException the error exception
+     */
+    @Benchmark
+    public void checkAllConstructBenchmark(Blackhole blackhole) throws ErrorException {
+        for (Pair<MethodDeclaration, MethodDeclaration> pair : matchingPairs) {
+            blackhole.consume(AnalysisStatementConstructs.checkAllConstruct(pair.getKey(), pair.getValue()));
+        }
+    }
+
+    /**
+     * Compares the condition of the first If construct of every matching pair.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void compareElementContentBenchmark(Blackhole blackhole) {
+        for (Pair<MethodDeclaration, MethodDeclaration> pair : conditionPairs) {
+            blackhole.consume(AnalysisMethod.compareElementContent(pair.getKey(), pair.getValue(),
+                    pair.getKey().findFirst(IfStmt.class).get().getCondition(),
+                    pair.getValue().findFirst(IfStmt.class).get().getCondition()));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.parser.benchmark;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import javafx.util.Pair;
+import org.parser.analysis.MethodMatcher;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.catalog.AlgorithmEntry;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.parser.analysis.AnalysisRecursiveMethod.getRecursiveMethodCall;
+
+/**
+ * <h1> BenchmarkInputs </h1>
+ * <p>
+ * This class prepares the inputs shared by all the benchmarks: the catalog of the project and the user classes of the three sizes.
+ * A user class contains several copies of the methods of "userCode/UserClass.java", each copy with its own method names,
+ * so that the work grows with the size while every method keeps matching the same algorithm of the catalog.
+ * <p>
+ * The project root is read from the "benchmark.root" system property, otherwise it is the first parent of the working directory
+ * containing the "algorithms" folder.
+ */
+public final class BenchmarkInputs {
+
+    /**
+     * The size of the user class processed by a benchmark.
+     */
+    public enum Size {
+        /**
+         * The methods of UserClass, once.
+         */
+        SMALL(1),
+        /**
+         * Ten copies of the methods of UserClass.
+         */
+        MEDIUM(10),
+        /**
+         * One hundred copies of the methods of UserClass.
+         */
+        LARGE(100);
+
+        private final int copies;
+
+        Size(int copies) {
+            this.copies = copies;
+        }
+
+        /**
+         * Returns the number of copies of the methods of UserClass.
+         *
+         * @return int
+         */
+        public int getCopies() {
+            return copies;
+        }
+    }
+
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * Returns the root folder of the project, the one containing the "algorithms" and "userCode" folders.
+     *
+     * @return file
+     */
+    public static File retrieveProjectRoot() {
+        String root = System.getProperty("benchmark.root");
+        if (root != null) {
+            return new File(root).getAbsoluteFile();
+        }
+
+        File directory = new File("").getAbsoluteFile();
+        while (directory != null && !new File(directory, "algorithms").isDirectory()) {
+            directory = directory.getParentFile();
+        }
+        if (directory == null) {
+            throw new IllegalStateException("The project root was not found, set the benchmark.root system property");
+        }
+        return directory;
+    }
+
+    /**
+     * Loads the catalog of the project.
+     *
+     * @return algorithm catalog
+     * @throws ErrorException the error exception
+     */
+    public static AlgorithmCatalog loadCatalog() throws ErrorException {
+        return AlgorithmCatalog.load(new File(retrieveProjectRoot(), "algorithms"));
+    }
+
+    /**
+     * Returns the source of the user class of the size passed as input.
+     *
+     * @param size the size
+     * @return string
+     * @throws IOException the io exception
+     */
+    public static String generateUserClass(Size size) throws IOException {
+        CompilationUnit cu = StaticJavaParser.parse(new File(retrieveProjectRoot(), "userCode/UserClass.java"));
+        ClassOrInterfaceDeclaration userClass = cu.findFirst(ClassOrInterfaceDeclaration.class)
+                .orElseThrow(() -> new IllegalStateException("UserClass does not contain a class"));
+
+        List<MethodDeclaration> methods = new ArrayList<>(userClass.getMethods());
+        Set<String> names = methods.stream().map(MethodDeclaration::getNameAsString).collect(Collectors.toSet());
+
+        for (int copy = 1; copy < size.getCopies(); copy++) {
+            for (MethodDeclaration method : methods) {
+                userClass.addMember(renameCopy(method.clone(), names, "Copy" + copy));
+            }
+        }
+        return BenchmarkSourcePrinter.print(cu);
+    }
+
+    /**
+     * Adds the suffix passed as input to the name of the method and to the calls to the methods of the same class.
+     *
+     * @param method the method
+     * @param names  the names of the methods of the class
+     * @param suffix the suffix
+     * @return method declaration
+     */
+    static MethodDeclaration renameCopy(MethodDeclaration method, Set<String> names, String suffix) {
+        method.setName(method.getNameAsString() + suffix);
+        for (MethodCallExpr call : method.findAll(MethodCallExpr.class)) {
+            if (!call.getScope().isPresent() && names.contains(call.getNameAsString())) {
+                call.setName(call.getNameAsString() + suffix);
+            }
+        }
+        return method;
+    }
+
+    /**
+     * Writes the user class of the size passed as input to a temporary file, deleted when the benchmark ends.
+     *
+     * @param size the size
+     * @return file
+     * @throws IOException the io exception
+     */
+    public static File writeUserClass(Size size) throws IOException {
+        Path file = Files.createTempFile("UserClass" + size, ".java");
+        Files.write(file, generateUserClass(size).getBytes(StandardCharsets.UTF_8));
+        file.toFile().deleteOnExit();
+        return file.toFile();
+    }
+
+    /**
+     * Returns every recursive method of the CompilationUnit passed as input, together with the algorithm of the catalog it matches.
+     * The methods without an iterative version are left out.
+     *
+     * @param cu      the cu
+     * @param catalog the catalog
+     * @return list
+     * @throws ErrorException the error exception
+     */
+    public static List<Pair<MethodDeclaration, AlgorithmEntry>> retrieveMatchingPairs(CompilationUnit cu, AlgorithmCatalog catalog) throws ErrorException {
+        MethodMatcher matcher = new MethodMatcher(catalog);
+        List<Pair<MethodDeclaration, AlgorithmEntry>> pairs = new ArrayList<>();
+
+        for (MethodDeclaration method : cu.findAll(MethodDeclaration.class)) {
+            if (getRecursiveMethodCall(method) == null) {
+                continue;
+            }
+            AlgorithmEntry algorithm = matcher.findIterativeVersion(method);
+            if (algorithm != null) {
+                pairs.add(new Pair<>(method, algorithm));
+            }
+        }
+        return pairs;
+    }
+}
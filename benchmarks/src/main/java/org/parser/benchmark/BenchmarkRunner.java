@@ -0,0 +1,37 @@
+package org.parser.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <h1> BenchmarkRunner </h1>
+ * <p>
+ * Runs the benchmarks selected by the command line, which accepts all the options of JMH
+ * (for example: java -jar target/benchmarks.jar ParsingBenchmark -p size=LARGE).
+ * The GC profiler is always enabled, so every result also reports the allocation rate.
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args the JMH options
+     * @throws CommandLineOptionException the command line option exception
+     * @throws RunnerException            the runner exception
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,82 @@
+package org.parser.benchmark;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.type.ArrayType;
+import com.github.javaparser.printer.PrettyPrintVisitor;
+import com.github.javaparser.printer.PrettyPrinter;
+import com.github.javaparser.printer.PrettyPrinterConfiguration;
+
+/**
+ * <h1> BenchmarkSourcePrinter </h1>
+ * <p>
+ * This class prints the generated user classes. Unlike the default printer, it keeps the brackets of the array parameters
+ * declared after the name (for example: int arr[]), as written in the algorithms of the catalog:
+ * the signature check compares the types of the parameters as nodes, so an "int[] arr" parameter would never match them.
+ */
+public final class BenchmarkSourcePrinter {
+
+    private BenchmarkSourcePrinter() {
+    }
+
+    /**
+     * Returns the source code of the CompilationUnit passed as input.
+     *
+     * @param cu the cu
+     * @return string
+     */
+    public static String print(CompilationUnit cu) {
+        PrettyPrinterConfiguration configuration = new PrettyPrinterConfiguration();
+        configuration.setVisitorFactory(ArrayNamePrintVisitor::new);
+        return new PrettyPrinter(configuration).print(cu);
+    }
+
+    /**
+     * The visitor printing the array parameters with the brackets after the name, when they were declared that way.
+     */
+    private static final class ArrayNamePrintVisitor extends PrettyPrintVisitor {
+
+        /**
+         * Instantiates a new Array name print visitor.
+         *
+         * @param configuration the configuration
+         */
+        private ArrayNamePrintVisitor(PrettyPrinterConfiguration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void visit(Parameter parameter, Void arg) {
+            if (!isArrayDeclaredAfterName(parameter)) {
+                super.visit(parameter, arg);
+                return;
+            }
+
+            ArrayType type = parameter.getType().asArrayType();
+            for (Modifier modifier : parameter.getModifiers()) {
+                printer.print(modifier.getKeyword().asString() + " ");
+            }
+            type.getElementType().accept(this, arg);
+            printer.print(" ");
+            parameter.getName().accept(this, arg);
+            for (int i = 0; i < type.getArrayLevel(); i++) {
+                printer.print("[]");
+            }
+        }
+
+        /**
+         * Checks whether the parameter passed as input is a plain array parameter whose brackets were written after the name.
+         *
+         * @param parameter the parameter
+         * @return boolean
+         */
+        private static boolean isArrayDeclaredAfterName(Parameter parameter) {
+            return parameter.getType().isArrayType()
+                    && parameter.getType().asArrayType().getOrigin() == ArrayType.Origin.NAME
+                    && parameter.getAnnotations().isEmpty()
+                    && !parameter.getComment().isPresent()
+                    && !parameter.isVarArgs();
+        }
+    }
+}
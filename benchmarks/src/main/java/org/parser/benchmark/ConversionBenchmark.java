@@ -0,0 +1,89 @@
+package org.parser.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.parser.App;
+import org.parser.analysis.MethodMatcher;
+import org.parser.analysis.RecursionScanner;
+import org.parser.cache.ResultCache;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.config.RunConfiguration;
+import org.parser.diagnostic.Diagnostics;
+import org.parser.error.ErrorException;
+import org.parser.file.ConversionResult;
+import org.parser.file.SkeletonParser;
+import org.parser.file.SourceReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1> ConversionBenchmark </h1>
+ * <p>
+ * Measures the whole conversion of a user file, as performed by App for each file: parsing, matching against the catalog,
+ * replacement of the recursive methods and printing of the converted source: the whole file, only the replaced methods or their diff.
+ * The result cache is disabled, so every invocation does the full work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkInputs.Size size;
+
+    @Param({"FULL", "MINIMAL", "PATCH"})
+    private RunConfiguration.OutputMode output;
+
+    private File userFile;
+    private AlgorithmCatalog catalog;
+    private SourceReader reader;
+
+    /**
+     * Loads the catalog and writes the user file of the requested size.
+     *
+     * @throws IOException    the io exception
+     * @throws ErrorException the error exception
+     */
+    @Setup
+    public void setUp() throws IOException, ErrorException {
+        userFile = BenchmarkInputs.writeUserClass(size);
+        catalog = BenchmarkInputs.loadCatalog();
+        reader = new SourceReader(StandardCharsets.UTF_8);
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.OFF);
+    }
+
+    /**
+     * Restores the printing of the diagnostics.
+     */
+    @TearDown
+    public void tearDown() {
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.PRINT);
+    }
+
+    /**
+     * Converts the user file.
+     *
+     * @return conversion result
+     * @throws ErrorException the error exception
+     */
+    @Benchmark
+    public ConversionResult convertUserFile() throws ErrorException {
+        return App.processUserFile(userFile, reader, new SkeletonParser(new RecursionScanner(), catalog), new MethodMatcher(catalog), ResultCache.disabled(), output);
+    }
+}
@@ -0,0 +1,373 @@
+package org.parser.benchmark;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.SimpleName;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.catalog.AlgorithmEntry;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.parser.analysis.AnalysisRecursiveMethod.retrieveRecursiveFile;
+import static org.parser.file.FileParserUtils.retrieveCompilationUnit;
+
+/**
+ * <h1> CorpusGenerator </h1>
+ * <p>
+ * This class generates a corpus of user classes for the measurements of throughput, memory and scaling.
+ * Every class mixes the recursive algorithms of the catalog, taken as they are or transformed, with methods that are not recursive.
+ * The corpus only depends on the seed: every class is generated by its own random generator, derived from the seed and the index
+ * of the class, so the same class is always produced whatever the number of classes requested.
+ * <p>
+ * Usage: java -cp target/benchmarks.jar org.parser.benchmark.CorpusGenerator outputFolder [classes] [methodsPerClass] [seed]
+ */
+public final class CorpusGenerator {
+
+    /**
+     * The kind of method placed in a generated class.
+     */
+    public enum VariantKind {
+        /**
+         * An algorithm of the catalog, unchanged.
+         */
+        EXACT,
+        /**
+         * An algorithm of the catalog with renamed formal parameters, which is still converted.
+         */
+        RENAMED,
+        /**
+         * An algorithm of the catalog with two independent local declarations swapped.
+         */
+        REORDERED,
+        /**
+         * An algorithm of the catalog with one operator or literal changed, which looks convertible but must be rejected.
+         */
+        NEAR_MISS,
+        /**
+         * A method that is not recursive, which is discarded before any comparison.
+         */
+        NOISE
+    }
+
+    private static final int CLASSES_PER_PACKAGE = 100;
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+    private static final String[] PARAMETER_NAMES = {"values", "data", "items", "size", "first", "last", "start", "end", "count", "position"};
+    private static final String[] NOISE_TEMPLATES = {
+            "int sum%s(int[] values) { int total = 0; for (int i = 0; i < values.length; i++) { total += values[i]; } return total; }",
+            "int max%s(int[] values) { int best = values[0]; for (int value : values) { if (value > best) { best = value; } } return best; }",
+            "boolean contains%s(int[] values, int key) { int i = 0; while (i < values.length) { if (values[i] == key) { return true; } i++; } return false; }",
+            "String describe%s(int code) { switch (code) { case 0: return \"zero\"; case 1: return \"one\"; default: return \"many\"; } }",
+            "void reverse%s(int[] values) { for (int i = 0, j = values.length - 1; i < j; i++, j--) { int temp = values[i]; values[i] = values[j]; values[j] = temp; } }",
+            "long power%s(long base, int exponent) { long result = 1; do { result *= base; exponent--; } while (exponent > 0); return result; }"
+    };
+
+    private final List<List<MethodDeclaration>> templates;
+    private final long seed;
+
+    /**
+     * Instantiates a new Corpus generator.
+     *
+     * @param catalog the catalog
+     * @param seed    the seed
+     * @throws ErrorException the error exception
+     */
+    public CorpusGenerator(AlgorithmCatalog catalog, long seed) throws ErrorException {
+        this.templates = retrieveTemplates(catalog);
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the methods of the recursive file of each algorithm of the catalog, helper methods included.
+     *
+     * @param catalog the catalog
+     * @return list
+     * @throws ErrorException the error exception
+     */
+    private static List<List<MethodDeclaration>> retrieveTemplates(AlgorithmCatalog catalog) throws ErrorException {
+        List<List<MethodDeclaration>> result = new ArrayList<>();
+        for (AlgorithmEntry entry : catalog.getEntries()) {
+            CompilationUnit cu = retrieveCompilationUnit(retrieveRecursiveFile(entry.getFiles()));
+            result.add(Collections.unmodifiableList(cu.findAll(MethodDeclaration.class)));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Generates the class with the index passed as input.
+     *
+     * @param index   the index
+     * @param methods the number of methods, or groups of methods for the algorithms with helpers
+     * @return compilation unit
+     */
+    public CompilationUnit generateClass(int index, int methods) {
+        Random random = new Random(seed ^ (index * SEED_MIX));
+        CompilationUnit cu = new CompilationUnit(retrievePackageName(index));
+        ClassOrInterfaceDeclaration generatedClass = cu.addClass(retrieveClassName(index));
+
+        for (int slot = 0; slot < methods; slot++) {
+            VariantKind kind = VariantKind.values()[random.nextInt(VariantKind.values().length)];
+            for (MethodDeclaration method : generateMethods(kind, random, "V" + slot)) {
+                generatedClass.addMember(method);
+            }
+        }
+        return cu;
+    }
+
+    /**
+     * Generates the methods of a single slot of a class.
+     *
+     * @param kind   the kind
+     * @param random the random
+     * @param suffix the suffix added to the names of the methods, unique within the class
+     * @return list
+     */
+    private List<MethodDeclaration> generateMethods(VariantKind kind, Random random, String suffix) {
+        if (kind == VariantKind.NOISE) {
+            String template = NOISE_TEMPLATES[random.nextInt(NOISE_TEMPLATES.length)];
+            return Collections.singletonList(StaticJavaParser.parseMethodDeclaration(String.format(template, suffix)));
+        }
+
+        List<MethodDeclaration> template = templates.get(random.nextInt(templates.size()));
+        Set<String> names = template.stream().map(MethodDeclaration::getNameAsString).collect(Collectors.toSet());
+        List<MethodDeclaration> group = new ArrayList<>();
+        for (MethodDeclaration method : template) {
+            group.add(BenchmarkInputs.renameCopy(method.clone(), names, suffix));
+        }
+
+        switch (kind) {
+            case RENAMED:
+                group.forEach(method -> renameParameters(method, random));
+                break;
+            case REORDERED:
+                reorderDeclarations(group, random);
+                break;
+            case NEAR_MISS:
+                changeOperatorOrLiteral(group.get(0), random);
+                break;
+            default:
+                break;
+        }
+        return group;
+    }
+
+    /**
+     * Gives new names to the formal parameters of the method passed as input, avoiding the names already used in the method.
+     *
+     * @param method the method
+     * @param random the random
+     */
+    private static void renameParameters(MethodDeclaration method, Random random) {
+        Set<String> usedNames = method.findAll(SimpleName.class).stream().map(SimpleName::asString).collect(Collectors.toSet());
+
+        for (Parameter parameter : method.getParameters()) {
+            String oldName = parameter.getNameAsString();
+            String newName = PARAMETER_NAMES[random.nextInt(PARAMETER_NAMES.length)];
+            while (usedNames.contains(newName)) {
+                newName = newName + "1";
+            }
+            usedNames.add(newName);
+
+            parameter.setName(newName);
+            for (NameExpr name : method.findAll(NameExpr.class)) {
+                if (name.getNameAsString().equals(oldName)) {
+                    name.setName(newName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Swaps two adjacent local declarations that do not depend on each other, chosen among all those of the group.
+     * If there are none, the order of the methods of the group is reversed instead.
+     *
+     * @param group  the group
+     * @param random the random
+     */
+    private static void reorderDeclarations(List<MethodDeclaration> group, Random random) {
+        List<StatementPosition> candidates = new ArrayList<>();
+        for (MethodDeclaration method : group) {
+            for (BlockStmt block : method.findAll(BlockStmt.class)) {
+                NodeList<Statement> statements = block.getStatements();
+                for (int i = 0; i + 1 < statements.size(); i++) {
+                    if (areIndependentDeclarations(statements.get(i), statements.get(i + 1))) {
+                        candidates.add(new StatementPosition(block, i));
+                    }
+                }
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            Collections.reverse(group);
+            return;
+        }
+        StatementPosition chosen = candidates.get(random.nextInt(candidates.size()));
+        NodeList<Statement> statements = chosen.block.getStatements();
+        Statement first = statements.get(chosen.index);
+        Statement second = statements.get(chosen.index + 1);
+        statements.set(chosen.index, second.clone());
+        statements.set(chosen.index + 1, first.clone());
+    }
+
+    /**
+     * Checks whether both statements are local declarations and the second one does not use the variables of the first one.
+     *
+     * @param first  the first
+     * @param second the second
+     * @return boolean
+     */
+    private static boolean areIndependentDeclarations(Statement first, Statement second) {
+        if (!isDeclaration(first) || !isDeclaration(second)) {
+            return false;
+        }
+        Set<String> declared = first.findAll(VariableDeclarator.class).stream()
+                .map(VariableDeclarator::getNameAsString)
+                .collect(Collectors.toSet());
+        return second.findAll(NameExpr.class).stream().noneMatch(name -> declared.contains(name.getNameAsString()));
+    }
+
+    /**
+     * Checks whether the statement passed as input is a local variable declaration.
+     *
+     * @param statement the statement
+     * @return boolean
+     */
+    private static boolean isDeclaration(Statement statement) {
+        return statement.isExpressionStmt() && statement.asExpressionStmt().getExpression() instanceof VariableDeclarationExpr;
+    }
+
+    /**
+     * Changes one relational operator or one integer literal of the method passed as input.
+     *
+     * @param method the method
+     * @param random the random
+     */
+    private static void changeOperatorOrLiteral(MethodDeclaration method, Random random) {
+        Map<BinaryExpr.Operator, BinaryExpr.Operator> nearOperators = new EnumMap<>(BinaryExpr.Operator.class);
+        nearOperators.put(BinaryExpr.Operator.LESS, BinaryExpr.Operator.LESS_EQUALS);
+        nearOperators.put(BinaryExpr.Operator.LESS_EQUALS, BinaryExpr.Operator.LESS);
+        nearOperators.put(BinaryExpr.Operator.GREATER, BinaryExpr.Operator.GREATER_EQUALS);
+        nearOperators.put(BinaryExpr.Operator.GREATER_EQUALS, BinaryExpr.Operator.GREATER);
+        nearOperators.put(BinaryExpr.Operator.EQUALS, BinaryExpr.Operator.NOT_EQUALS);
+        nearOperators.put(BinaryExpr.Operator.NOT_EQUALS, BinaryExpr.Operator.EQUALS);
+
+        List<Node> candidates = new ArrayList<>();
+        method.findAll(BinaryExpr.class).stream()
+                .filter(binary -> nearOperators.containsKey(binary.getOperator()))
+                .forEach(candidates::add);
+        candidates.addAll(method.findAll(IntegerLiteralExpr.class));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Node chosen = candidates.get(random.nextInt(candidates.size()));
+        if (chosen instanceof BinaryExpr) {
+            BinaryExpr binary = (BinaryExpr) chosen;
+            binary.setOperator(nearOperators.get(binary.getOperator()));
+        } else {
+            IntegerLiteralExpr literal = (IntegerLiteralExpr) chosen;
+            literal.setValue(String.valueOf(literal.asNumber().intValue() + 1));
+        }
+    }
+
+    /**
+     * Writes the classes of the corpus in the directory passed as input, one folder for each package.
+     *
+     * @param directory the directory
+     * @param classes   the classes
+     * @param methods   the methods of each class
+     * @throws IOException the io exception
+     */
+    public void generate(Path directory, int classes, int methods) throws IOException {
+        for (int index = 0; index < classes; index++) {
+            Path packageDirectory = directory.resolve(retrievePackageName(index).replace('.', File.separatorChar));
+            Files.createDirectories(packageDirectory);
+            Files.write(packageDirectory.resolve(retrieveClassName(index) + ".java"),
+                    BenchmarkSourcePrinter.print(generateClass(index, methods)).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Returns the package of the class with the index passed as input.
+     *
+     * @param index the index
+     * @return string
+     */
+    private static String retrievePackageName(int index) {
+        return String.format("corpus.group%03d", index / CLASSES_PER_PACKAGE);
+    }
+
+    /**
+     * Returns the name of the class with the index passed as input.
+     *
+     * @param index the index
+     * @return string
+     */
+    private static String retrieveClassName(int index) {
+        return String.format("Generated%05d", index);
+    }
+
+    /**
+     * Generates the corpus described by the command line.
+     *
+     * @param args output folder, number of classes (default 1000), methods per class (default 20), seed (default 42)
+     * @throws ErrorException the error exception
+     * @throws IOException    the io exception
+     */
+    public static void main(String[] args) throws ErrorException, IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: CorpusGenerator outputFolder [classes] [methodsPerClass] [seed]");
+            return;
+        }
+        int classes = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int methods = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        new CorpusGenerator(BenchmarkInputs.loadCatalog(), seed).generate(Paths.get(args[0]), classes, methods);
+        System.out.println("Generated " + classes + " classes with " + methods + " methods each in " + args[0]);
+    }
+
+    /**
+     * A position inside a block: the pair of statements starting at the index.
+     */
+    private static final class StatementPosition {
+        private final BlockStmt block;
+        private final int index;
+
+        /**
+         * Instantiates a new Statement position.
+         *
+         * @param block the block
+         * @param index the index
+         */
+        private StatementPosition(BlockStmt block, int index) {
+            this.block = block;
+            this.index = index;
+        }
+    }
+}
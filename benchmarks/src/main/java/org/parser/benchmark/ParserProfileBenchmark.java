@@ -0,0 +1,69 @@
+package org.parser.benchmark;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.parser.file.ParserFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1> ParserProfileBenchmark </h1>
+ * <p>
+ * Measures the parsing throughput of each profile of ParserFactory, against StaticJavaParser,
+ * which builds a new parser with the global configuration for every source.
+ * The source is parsed from memory, so that only the parser is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserProfileBenchmark {
+
+    /**
+     * The parser measured: StaticJavaParser, or the name of a profile of ParserFactory.
+     */
+    @Param({"STATIC", "SOURCE", "STRUCTURE"})
+    private String parser;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkInputs.Size size;
+
+    private String source;
+
+    /**
+     * Generates the source of the requested size.
+     *
+     * @throws IOException the io exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        source = BenchmarkInputs.generateUserClass(size);
+    }
+
+    /**
+     * Parses the source.
+     *
+     * @return compilation unit
+     */
+    @Benchmark
+    public CompilationUnit parse() {
+        if ("STATIC".equals(parser)) {
+            return StaticJavaParser.parse(source);
+        }
+        return ParserFactory.parse(ParserFactory.Profile.valueOf(parser), source);
+    }
+}
@@ -0,0 +1,78 @@
+package org.parser.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.parser.analysis.RecursionScanner;
+import org.parser.analysis.SourceScan;
+import org.parser.error.ErrorException;
+import org.parser.file.FileUser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1> ParsingBenchmark </h1>
+ * <p>
+ * Measures the parsing of a user file, that is the creation of a FileUser,
+ * against the lexical scan that looks for the candidate recursive methods of the same file without parsing it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsingBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkInputs.Size size;
+
+    private File userFile;
+    private String source;
+    private RecursionScanner scanner;
+
+    /**
+     * Writes the user file of the requested size.
+     *
+     * @throws IOException the io exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        userFile = BenchmarkInputs.writeUserClass(size);
+        source = new String(Files.readAllBytes(userFile.toPath()), StandardCharsets.UTF_8);
+        scanner = new RecursionScanner();
+    }
+
+    /**
+     * Parses the user file.
+     *
+     * @return file user
+     * @throws ErrorException the error exception
+     */
+    @Benchmark
+    public FileUser parseUserFile() throws ErrorException {
+        return new FileUser(userFile);
+    }
+
+    /**
+     * Scans the source of the user file.
+     *
+     * @return source scan
+     */
+    @Benchmark
+    public SourceScan scanUserSource() {
+        return scanner.scan(source);
+    }
+}
@@ -0,0 +1,97 @@
+package org.parser.benchmark;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import javafx.util.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.catalog.AlgorithmEntry;
+import org.parser.config.RunConfiguration;
+import org.parser.diagnostic.Diagnostics;
+import org.parser.error.ErrorException;
+import org.parser.file.ConversionContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.parser.analysis.AnalysisIterativeMethod.replaceRecursiveWithIterativeMethods;
+
+/**
+ * <h1> ReplacementBenchmark </h1>
+ * <p>
+ * Measures the replacement of every matched recursive method of a user file with its iterative version.
+ * The replacement modifies the file, so a fresh copy is parsed and matched before each invocation, outside of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplacementBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkInputs.Size size;
+
+    private File userFile;
+    private AlgorithmCatalog catalog;
+    private ConversionContext context;
+    private List<Pair<MethodDeclaration, AlgorithmEntry>> matchingPairs;
+
+    /**
+     * Loads the catalog and writes the user file of the requested size.
+     *
+     * @throws IOException    the io exception
+     * @throws ErrorException the error exception
+     */
+    @Setup
+    public void setUp() throws IOException, ErrorException {
+        userFile = BenchmarkInputs.writeUserClass(size);
+        catalog = BenchmarkInputs.loadCatalog();
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.OFF);
+    }
+
+    /**
+     * Parses a fresh copy of the user file and matches its methods against the catalog.
+     *
+     * @throws ErrorException the error exception
+     */
+    @Setup(Level.Invocation)
+    public void prepareContext() throws ErrorException {
+        context = new ConversionContext(userFile);
+        matchingPairs = BenchmarkInputs.retrieveMatchingPairs(context.getCompilationUnit(), catalog);
+    }
+
+    /**
+     * Restores the printing of the diagnostics.
+     */
+    @TearDown
+    public void tearDown() {
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.PRINT);
+    }
+
+    /**
+     * Replaces all the matched methods of the user file in a single batch.
+     *
+     * @return conversion context
+     * @throws ErrorException the error exception
+     */
+    @Benchmark
+    public ConversionContext replaceMatchedMethods() throws ErrorException {
+        replaceRecursiveWithIterativeMethods(context, matchingPairs);
+        return context;
+    }
+}
@@ -1,17 +1,33 @@
 package org.parser;
 
 import com.github.javaparser.ast.body.MethodDeclaration;
-import org.parser.file.FileParserUtils;
+import javafx.util.Pair;
+import org.parser.analysis.MethodMatcher;
+import org.parser.analysis.RecursionScanner;
+import org.parser.analysis.SourceScan;
+import org.parser.cache.ResultCache;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.catalog.AlgorithmEntry;
+import org.parser.config.RunConfiguration;
+import org.parser.diagnostic.CountingSink;
+import org.parser.diagnostic.DiagnosticSink;
+import org.parser.diagnostic.Diagnostics;
+import org.parser.error.ErrorException;
+import org.parser.execution.FileExecutor;
+import org.parser.file.ConversionContext;
+import org.parser.file.ConversionResult;
+import org.parser.file.OutputWriter;
+import org.parser.file.SkeletonParser;
+import org.parser.file.SourceFileMatcher;
+import org.parser.file.SourceReader;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-import static org.parser.analysis.AnalysisIterativeMethod.replaceRecursiveWithIterativeMethod;
-import static org.parser.analysis.AnalysisMethod.*;
-import static org.parser.analysis.AnalysisRecursiveMethod.retrieveRecursiveFile;
-import static org.parser.analysis.AnalysisStatementConstructs.checkAllConstruct;
+import static org.parser.analysis.AnalysisIterativeMethod.replaceRecursiveWithIterativeMethods;
 import static org.parser.file.FileParserUtils.*;
 
 /**
@@ -25,50 +41,140 @@ public class App {
 
     /**
      * This is the main method from which methods to analyze user files will be called.
+     * The user files are converted concurrently by the executor described by the system properties,
+     * while the converted files are written by a thread of their own, in the order in which the user files are found,
+     * folder by folder in the order of their names.
+     * The user files are selected through the include and exclude patterns, and each one is converted as soon as it is found.
+     * The files that did not change since the previous run are not converted again, their previous result is reused.
+     * Depending on the output mode, the converted files are either printed again or patched where the methods were replaced,
+     * or a single patch with the diffs of all the files is written.
+     * The reasons for which the methods are or are not converted are printed, counted or ignored, depending on the diagnostic level.
      *
      * @param args the input arguments
      * @throws Exception the exception
      */
     public static void main(String[] args) throws Exception {
+        RunConfiguration configuration = RunConfiguration.fromSystemProperties();
+        DiagnosticSink diagnostics = Diagnostics.configure(configuration.getDiagnosticLevel());
+        AlgorithmCatalog catalog = AlgorithmCatalog.load();
+        MethodMatcher matcher = new MethodMatcher(catalog);
+        RunConfiguration.OutputMode outputMode = configuration.getOutputMode();
+        ResultCache cache = configuration.isCacheEnabled() ? ResultCache.create(retrieveCachePath(), catalog, outputMode) : ResultCache.disabled();
+
+        SourceReader reader = new SourceReader(configuration.getCharset());
+        RecursionScanner scanner = new RecursionScanner();
+        SkeletonParser parser = new SkeletonParser(scanner, catalog);
+        SourceFileMatcher sourceFileMatcher = new SourceFileMatcher(configuration.getIncludePatterns(), configuration.getExcludePatterns());
+
+        OutputWriter writer = OutputWriter.start(configuration);
+        try (FileExecutor executor = FileExecutor.create(configuration);
+             Stream<File> userFiles = retrieveUserFiles(sourceFileMatcher)) {
+            executor.execute(userFiles, file -> processUserFile(file, reader, parser, matcher, cache, outputMode), writer::submit);
+        } finally {
+            writer.close();
+        }
+        System.out.println(reader.retrieveReadingReport());
+        System.out.println(scanner.retrieveScanReport());
+        System.out.println(parser.retrieveParseReport());
+        System.out.println(writer.retrieveWritingReport());
+        System.out.println(matcher.retrievePrefilterReport());
+        System.out.println(matcher.retrieveSessionReport());
+        System.out.println(matcher.getPipeline().retrievePipelineReport());
+        if (cache.isEnabled()) {
+            System.out.println(cache.retrieveCacheReport());
+        }
+        if (diagnostics instanceof CountingSink) {
+            System.out.println(((CountingSink) diagnostics).retrieveCountingReport());
+        }
+    }
 
-        for (File userFile : retrieveUserFilesList()) {
-            List<MethodDeclaration> listUserRecursiveMethods = getRecursiveUserMethodList(userFile);
-            File[] algorithmList = retrieveAlgorithmsToExaminedList();
-
-            for (MethodDeclaration userMethod : listUserRecursiveMethods) {
-
-                for (File file : algorithmList) {
-                    List<File> files = new ArrayList(Arrays.asList(file.listFiles()));
+    /**
+     * Returns the converted source of the user file passed as input, reusing the one stored in the cache if the file did not change.
+     * A file in which the scan finds no candidate recursive method is neither parsed nor stored in the cache: it is left as it is,
+     * as well as a file whose skeleton shows that none of its methods can be converted.
+     * The mutually recursive methods are reported from the scan, before the file is left out or its result is taken from the cache.
+     *
+     * @param userFile   the user file
+     * @param reader     the reader
+     * @param parser     the parser
+     * @param matcher    the matcher
+     * @param cache      the cache
+     * @param outputMode the output mode
+     * @return conversion result
+     * @throws ErrorException the error exception
+     */
+    public static ConversionResult processUserFile(File userFile, SourceReader reader, SkeletonParser parser, MethodMatcher matcher,
+                                                   ResultCache cache, RunConfiguration.OutputMode outputMode) throws ErrorException {
+        String source = reader.read(userFile);
+        SourceScan scan = parser.scan(source);
+        reportMutualRecursion(scan);
+        if (!scan.hasCandidates()) {
+            return new ConversionResult(userFile, retrieveUnchangedSource(source, outputMode), false, false);
+        }
 
-                    MethodDeclaration recursiveMethod = retrieveCompilationUnitRecursiveMethod(retrieveRecursiveFile(files));
+        String key = cache.isEnabled() ? cache.retrieveKey(source) : null;
+        Optional<String> cachedSource = cache.retrieve(key);
+        if (cachedSource.isPresent()) {
+            return new ConversionResult(userFile, cachedSource.get(), true, isChanged(source, cachedSource.get(), outputMode));
+        }
 
-                    if (checkMethodSignature(userMethod, recursiveMethod)) {
+        Optional<ConversionContext> context = parser.parse(userFile, source, scan, outputMode);
+        String convertedSource = context.isPresent()
+                ? retrieveSourceCode(convertUserFile(context.get(), matcher), outputMode)
+                : retrieveUnchangedSource(source, outputMode);
+        cache.store(key, convertedSource);
+        return new ConversionResult(userFile, convertedSource, false, isChanged(source, convertedSource, outputMode));
+    }
 
-                        if (compareSizeLists(userMethod, recursiveMethod)) {
-                            System.out.println("Different number of iterative or conditional constructs!");
-                            continue;
-                        }
+    /**
+     * Returns the output of a user file in which nothing can be converted: the file as it is, or an empty diff with the patch output mode.
+     *
+     * @param source     the source
+     * @param outputMode the output mode
+     * @return string
+     */
+    private static String retrieveUnchangedSource(String source, RunConfiguration.OutputMode outputMode) {
+        return outputMode == RunConfiguration.OutputMode.PATCH ? "" : source;
+    }
 
-                        if (checkAllConstruct(userMethod, recursiveMethod)) {
-                            System.out.println("The iterative version of the following recursive method is not available: " + recursiveMethod);
-                            continue;
-                        }
+    /**
+     * Checks whether the conversion of a user file changed anything, given its original source and the output of the conversion:
+     * the converted source, or the diff with the patch output mode.
+     *
+     * @param source          the source
+     * @param convertedSource the converted source
+     * @param outputMode      the output mode
+     * @return boolean
+     */
+    private static boolean isChanged(String source, String convertedSource, RunConfiguration.OutputMode outputMode) {
+        if (outputMode == RunConfiguration.OutputMode.PATCH) {
+            return !convertedSource.isEmpty();
+        }
+        return !convertedSource.equals(source);
+    }
 
-                        if (checkRecursiveCallArguments(userMethod, recursiveMethod)) {
-                            System.out.println("The arguments of the method call are different!");
-                            System.out.println("The iterative version of the following recursive method is not available: " + recursiveMethod);
-                            continue;
-                        }
+    /**
+     * Replaces all the recursive methods of the user file, whose context is passed as input, that have an iterative version in the catalog.
+     * All the methods are matched first, then replaced in a single batch.
+     * It only works on the context of its own file, so it can be called by several threads at the same time.
+     *
+     * @param context the context
+     * @param matcher the matcher
+     * @return conversion context
+     * @throws ErrorException the error exception
+     */
+    public static ConversionContext convertUserFile(ConversionContext context, MethodMatcher matcher) throws ErrorException {
+        List<MethodDeclaration> listUserRecursiveMethods = getRecursiveUserMethodList(context);
+        List<Pair<MethodDeclaration, AlgorithmEntry>> matchingPairs = new ArrayList<>();
 
-                        System.out.println("Same arguments in the recursive call to the method!");
+        for (MethodDeclaration userMethod : listUserRecursiveMethods) {
+            AlgorithmEntry algorithm = matcher.findIterativeVersion(userMethod);
 
-                        replaceRecursiveWithIterativeMethod(files, userMethod);
-                        break;
-                    }
-                }
+            if (algorithm != null) {
+                matchingPairs.add(new Pair<>(userMethod, algorithm));
             }
-
-            FileParserUtils.updateUserFile();
         }
+        replaceRecursiveWithIterativeMethods(context, matchingPairs);
+        return context;
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,19 @@
 package org.parser.analysis;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.AssignExpr;
 import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.UnaryExpr;
 import com.github.javaparser.ast.stmt.ForStmt;
 import javafx.util.Pair;
-import org.apache.commons.lang3.StringUtils;
 import org.parser.error.ErrorException;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -113,27 +112,28 @@ public class AnalysisForConstruct extends AnalysisMethod {
      */
     private static boolean checkForCompareElement(MethodDeclaration user, MethodDeclaration recursive, Pair<ForStmt, ForStmt> pair) {
         return checkIsPresentForCompare(pair.getKey()) &&
-                !compareConditionsElements(user, recursive, pair.getKey().getCompare().get().toString(), pair.getValue().getCompare().get().toString());
+                !compareConditionsElements(user, recursive, pair.getKey().getCompare().get(), pair.getValue().getCompare().get());
     }
 
     /**
-     * Count the number of iterative variables initialized in the For.
-     *
-     * @param initialization the initialization
-     * @return int
-     */
-    private static int countForInitialization(String initialization) {
-        return countStringMatches(initialization, ",");
-    }
-
-    /**
-     * Returns the iterative variables initialized in the For.
+     * Returns the initialization values of the iterative variables initialized in the For.
+     * If the For initializes already declared variables, the value assigned to the first one is returned.
      *
      * @param list the list
-     * @return string
+     * @return list
      */
-    private static String retrieveForContentInitialization(NodeList<Expression> list) {
-        return list.get(0).toString();
+    private static List<Optional<Expression>> retrieveForContentInitialization(NodeList<Expression> list) {
+        Expression initialization = list.get(0);
+        if (initialization.isVariableDeclarationExpr()) {
+            return initialization.asVariableDeclarationExpr().getVariables()
+                    .stream()
+                    .map(VariableDeclarator::getInitializer)
+                    .collect(Collectors.toList());
+        }
+        if (initialization.isAssignExpr()) {
+            return Collections.singletonList(Optional.of(retrieveAssignExpressionValue(initialization)));
+        }
+        return Collections.singletonList(Optional.of(initialization));
     }
 
     /**
@@ -145,10 +145,10 @@ public class AnalysisForConstruct extends AnalysisMethod {
      * @param recursiveList the recursive list
      * @return boolean
      */
-    private static boolean compareForInitializationElement(MethodDeclaration user, MethodDeclaration recursive, List<String> userList, List<String> recursiveList) {
+    private static boolean compareForInitializationElement(MethodDeclaration user, MethodDeclaration recursive,
+                                                           List<Optional<Expression>> userList, List<Optional<Expression>> recursiveList) {
         return iterativeListsFlow(userList.stream(), recursiveList.stream())
-                .anyMatch(pair -> Boolean.TRUE ==
-                        !compareElementContent(user, recursive, retrieveInitializationValue(pair.getKey()), retrieveInitializationValue(pair.getValue())));
+                .anyMatch(pair -> Boolean.TRUE == !compareInitializationValues(user, recursive, pair.getKey(), pair.getValue()));
     }
 
     /**
@@ -160,19 +160,13 @@ public class AnalysisForConstruct extends AnalysisMethod {
      * @return boolean
      */
     private static boolean checkForInitializationElements(MethodDeclaration user, MethodDeclaration recursive, Pair<ForStmt, ForStmt> pair) {
-        String userContent = retrieveForContentInitialization(retrieveForInitialization(pair.getKey()));
-        String recursiveContent = retrieveForContentInitialization(retrieveForInitialization(pair.getValue()));
-        int countUser = countForInitialization(userContent);
-        int countApplication = countForInitialization(recursiveContent);
+        List<Optional<Expression>> userContent = retrieveForContentInitialization(retrieveForInitialization(pair.getKey()));
+        List<Optional<Expression>> recursiveContent = retrieveForContentInitialization(retrieveForInitialization(pair.getValue()));
 
-        if (countUser != countApplication) {
+        if (userContent.size() != recursiveContent.size()) {
             return true;
         }
-        if (countForInitialization(userContent) != 0) {
-            return compareForInitializationElement(user, recursive, Arrays.asList(splitWithLimit(userContent, ",", countUser + 1)),
-                    Arrays.asList(splitWithLimit(recursiveContent, ",", countApplication + 1)));
-        }
-        return compareForInitializationElement(user, recursive, Collections.singletonList(userContent), Collections.singletonList(recursiveContent));
+        return compareForInitializationElement(user, recursive, userContent, recursiveContent);
     }
 
     /**
@@ -202,8 +196,7 @@ public class AnalysisForConstruct extends AnalysisMethod {
         if (compareUnaryOperator(userUnary, recursiveUnary)) {
             return true;
         }
-        return !(compareElementContent(user, recursive,
-                userUnary.getExpression().toString(), recursiveUnary.getExpression().toString()));
+        return !(compareElementContent(user, recursive, userUnary.getExpression(), recursiveUnary.getExpression()));
     }
 
     /**
@@ -232,12 +225,10 @@ public class AnalysisForConstruct extends AnalysisMethod {
         if (compareBinaryOperator(userBinary, recursiveBinary)) {
             return true;
         }
-        if (!compareElementContent(user, recursive,
-                userBinary.getLeft().toString(), recursiveBinary.getLeft().toString())) {
+        if (!compareElementContent(user, recursive, userBinary.getLeft(), recursiveBinary.getLeft())) {
             return true;
         }
-        return !(compareElementContent(user, recursive,
-                userBinary.getRight().toString(), recursiveBinary.getRight().toString()));
+        return !(compareElementContent(user, recursive, userBinary.getRight(), recursiveBinary.getRight()));
     }
 
     /**
@@ -250,13 +241,13 @@ public class AnalysisForConstruct extends AnalysisMethod {
      * @return boolean
      */
     private static boolean checkForUpdateElementContent(MethodDeclaration user, MethodDeclaration recursive, Expression userExpression, Expression recursiveExpression) {
-        String userElement = retrieveStringExpression(retrieveAssignExpressionValue(userExpression));
-        String recursiveElement = retrieveStringExpression(retrieveAssignExpressionValue(recursiveExpression));
+        Expression userElement = retrieveAssignExpressionValue(userExpression);
+        Expression recursiveElement = retrieveAssignExpressionValue(recursiveExpression);
 
-        if (retrieveAssignExpressionValue(userExpression).isNameExpr()) {
+        if (userElement.isNameExpr()) {
             return !(compareElementContent(user, recursive, userElement, recursiveElement));
         }
-        return !StringUtils.equals(userElement, recursiveElement);
+        return !userElement.equals(recursiveElement);
     }
 
     /**
@@ -275,8 +266,7 @@ public class AnalysisForConstruct extends AnalysisMethod {
         if (compareAssignOperator(userAssign, recursiveAssign)) {
             return true;
         }
-        if (!compareElementContent(user, recursive, retrieveStringExpression(userAssign.getTarget()),
-                retrieveStringExpression(recursiveAssign.getTarget()))) {
+        if (!compareElementContent(user, recursive, userAssign.getTarget(), recursiveAssign.getTarget())) {
             return true;
         }
         if (checkDifferentMetaModel(userAssign.getValue(), recursiveAssign.getValue())) {
@@ -315,9 +305,8 @@ public class AnalysisForConstruct extends AnalysisMethod {
      */
     private static boolean checkForUpdateElement(MethodDeclaration user, MethodDeclaration recursive, NodeList<Expression> userList, NodeList<Expression> recursiveList) {
         return iterativeListsFlow(userList.stream(), recursiveList.stream())
-                .filter(pair -> !checkDifferentMetaModel(retrieveParseExpression(pair.getKey().toString()), retrieveParseExpression(pair.getValue().toString())))
-                .anyMatch(pair -> Boolean.TRUE == !verifyCaseManagementForUpdate(user, recursive,
-                        retrieveParseExpression(pair.getKey().toString()), retrieveParseExpression(pair.getValue().toString())));
+                .filter(pair -> !checkDifferentMetaModel(pair.getKey(), pair.getValue()))
+                .anyMatch(pair -> Boolean.TRUE == !verifyCaseManagementForUpdate(user, recursive, pair.getKey(), pair.getValue()));
     }
 
     /**
@@ -452,14 +441,4 @@ public class AnalysisForConstruct extends AnalysisMethod {
         return userAssign.getOperator() != recursiveAssign.getOperator();
     }
 
-    /**
-     * Returns the string passed as input in the form of an expression.
-     *
-     * @param expression the expression
-     * @return expression
-     */
-    private static Expression retrieveParseExpression(String expression) {
-        return StaticJavaParser.parseExpression(expression);
-    }
-
 }
@@ -1,19 +1,17 @@
 package org.parser.analysis;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.body.Parameter;
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
+import javafx.util.Pair;
+import org.parser.catalog.AlgorithmEntry;
 import org.parser.error.ErrorCode;
 import org.parser.error.ErrorException;
+import org.parser.file.ConversionContext;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.parser.error.ErrorCode.generateErrorException;
-import static org.parser.file.FileParserUtils.getAllUserMethodList;
-import static org.parser.file.FileParserUtils.retrieveCompilationUnitRecursiveMethod;
 
 /**
  * <h1> AnalysisIterativeMethod </h1>
@@ -34,49 +32,84 @@ public abstract class AnalysisIterativeMethod extends AnalysisMethod {
         return retrieveMethodFile(files, "Iterative");
     }
 
+    /**
+     * Replaces all the matched user methods of the same file with their iterative versions, in a single batch:
+     * the iterative versions are prepared first, then every user method is modified in place through its own node.
+     * A user method nested in the body of another method replaced before it is no longer part of the file, so it is skipped.
+     *
+     * @param context       the context
+     * @param matchingPairs the user methods, taken from the compilation unit of the context, and the matching algorithms
+     * @throws ErrorException the error exception
+     */
+    public static void replaceRecursiveWithIterativeMethods(ConversionContext context,
+                                                            List<Pair<MethodDeclaration, AlgorithmEntry>> matchingPairs) throws ErrorException {
+        List<Pair<MethodDeclaration, MethodDeclaration>> replacements = new ArrayList<>(matchingPairs.size());
+        for (Pair<MethodDeclaration, AlgorithmEntry> pair : matchingPairs) {
+            replacements.add(new Pair<>(pair.getKey(), replaceMethodParametersName(pair.getValue().getIterativeMethod(), pair.getKey())));
+        }
+
+        for (Pair<MethodDeclaration, MethodDeclaration> replacement : replacements) {
+            if (isPartOf(context, replacement.getKey())) {
+                replaceMethod(context, replacement.getKey(), replacement.getValue());
+            }
+        }
+    }
+
     /**
      * Replaces the recursive version of the user method with the iterative one, keeping the same formal parameter names.
+     * The iterative method passed as input is shared by the catalog and is never modified.
      *
-     * @param files      the files
-     * @param userMethod the user method
+     * @param context         the context
+     * @param iterativeMethod the iterative method
+     * @param userMethod      the user method, taken from the compilation unit of the context
      * @throws ErrorException the error exception
      */
-    public static void replaceRecursiveWithIterativeMethod(List<File> files, MethodDeclaration userMethod) throws ErrorException {
-        File iterativePath = retrieveIterativeFile(files);
-        MethodDeclaration iterative_method = retrieveCompilationUnitRecursiveMethod(iterativePath);
-        MethodDeclaration newIterativeMethod = replaceMethodParametersName(iterative_method, userMethod);
+    public static void replaceRecursiveWithIterativeMethod(ConversionContext context, MethodDeclaration iterativeMethod,
+                                                           MethodDeclaration userMethod) throws ErrorException {
+        if (!isPartOf(context, userMethod)) {
+            throw generateErrorException(ErrorCode.METHODLESS_CLASS_USER);
+        }
+        replaceMethod(context, userMethod, replaceMethodParametersName(iterativeMethod, userMethod));
+    }
 
-        MethodDeclaration method = CollectionUtils.emptyIfNull(getAllUserMethodList())
-                .stream()
-                .filter(element -> StringUtils.equals(element.getDeclarationAsString(), userMethod.getDeclarationAsString()))
-                .findFirst()
-                .orElseThrow(() -> generateErrorException(ErrorCode.METHODLESS_CLASS_USER));
+    /**
+     * Checks whether the user method passed as input is still part of the compilation unit of the context.
+     *
+     * @param context    the context
+     * @param userMethod the user method
+     * @return boolean
+     */
+    private static boolean isPartOf(ConversionContext context, MethodDeclaration userMethod) {
+        return userMethod.findCompilationUnit().filter(cu -> cu == context.getCompilationUnit()).isPresent();
+    }
 
-        method.setParameters(newIterativeMethod.getParameters());
-        method.setBody(newIterativeMethod.getBody().get().asBlockStmt());
+    /**
+     * Moves the formal parameters and the body of the new iterative method into the user method.
+     *
+     * @param context            the context
+     * @param userMethod         the user method
+     * @param newIterativeMethod the new iterative method, with the formal parameter names of the user
+     */
+    private static void replaceMethod(ConversionContext context, MethodDeclaration userMethod, MethodDeclaration newIterativeMethod) {
+        context.recordReplacement(userMethod);
+        userMethod.setParameters(newIterativeMethod.getParameters());
+        userMethod.setBody(newIterativeMethod.getBody().get().asBlockStmt());
+        SymbolTable.invalidate(userMethod);
+        MethodProfile.invalidate(userMethod);
+        StructuralFingerprint.invalidate(userMethod);
     }
 
     /**
      * Before replacing the iterative method with the recursive (user's) method, the underlying method is called
      * so that the parameter names of the recursive (user's) version remain unchanged.
+     * The new method is a copy of the template of the iterative method, in which only the names of the formal parameters are substituted.
      *
      * @param iterativeMethod the iterative method
      * @param userMethod      the user method
      * @return method declaration
      */
     public static MethodDeclaration replaceMethodParametersName(MethodDeclaration iterativeMethod, MethodDeclaration userMethod) {
-        String bodyMethod = iterativeMethod.toString();
-
-        for (int i = 0; i < iterativeMethod.getParameters().size(); i++) {
-            Parameter iterativeParameter = iterativeMethod.getParameter(i);
-            Parameter userParameter = userMethod.getParameter(i);
-
-            if (StringUtils.equals(iterativeParameter.getType().toString(), userParameter.getType().toString())) {
-                bodyMethod = bodyMethod.replaceAll("\\b" + iterativeParameter.getNameAsString() + "\\b", userParameter.getNameAsString());
-            }
-        }
-
-        return StaticJavaParser.parseMethodDeclaration(bodyMethod);
+        return IterativeTemplate.of(iterativeMethod).instantiate(userMethod);
     }
 
 }
@@ -1,6 +1,5 @@
 package org.parser.analysis;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.VariableDeclarator;
@@ -9,18 +8,19 @@ import com.github.javaparser.ast.stmt.*;
 import javafx.util.Pair;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.parser.diagnostic.DiagnosticReason;
+import org.parser.diagnostic.Diagnostics;
 import org.parser.error.ErrorCode;
 import org.parser.error.ErrorException;
 
 import java.io.File;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static org.parser.analysis.AnalysisRecursiveMethod.getRecursiveMethodCall;
 import static org.parser.error.ErrorCode.generateErrorException;
 
 /**
@@ -48,51 +48,50 @@ public abstract class AnalysisMethod {
      */
     protected abstract boolean checkStatementList(MethodDeclaration user, MethodDeclaration recursive) throws ErrorException;
 
-    /**
-     * Returns an expression from the conversion of the input string.
-     *
-     * @param argument the argument
-     * @return expression
-     */
-    private static Expression retrieveExpression(String argument) {
-        return StaticJavaParser.parseExpression(argument);
-    }
-
     /**
      * Verify that the binary expression contains variables as arguments.
      * If the left element is of type NameExpr it returns it, otherwise it returns the right one.
      *
      * @param expression the expression
-     * @return string
+     * @return expression
      */
-    protected static String retrieveSingleArgument(Expression expression) {
+    protected static Expression retrieveSingleArgument(Expression expression) {
         if (!expression.asBinaryExpr().getLeft().isNameExpr()) {
-            return expression.asBinaryExpr().getRight().toString().trim();
+            return expression.asBinaryExpr().getRight();
         }
-        return expression.asBinaryExpr().getLeft().toString().trim();
+        return expression.asBinaryExpr().getLeft();
     }
 
     /**
-     * The method checks whether the formal parameter is of type BinaryExpr.
-     * If not, it returns the parameter supplied as input.
-     * In positive case it extrapolates from the parameter a single element, based on the value passed in the second parameter in input.
+     * The method checks whether the expression is of type BinaryExpr.
+     * If not, it returns the expression supplied as input.
+     * In positive case it extrapolates from the expression a single operand, based on the value passed in the second parameter in input.
      *
-     * @param argument the argument
-     * @param isLeft   the is left
-     * @return string
+     * @param expression the expression
+     * @param isLeft     the is left
+     * @return expression
      */
-    protected static String isBinary(String argument, Boolean isLeft) {
-        Expression expression = retrieveExpression(argument);
+    protected static Expression isBinary(Expression expression, Boolean isLeft) {
         if (expression.isBinaryExpr()) {
             if (isLeft == null) {
                 return retrieveSingleArgument(expression);
             }
             if (isLeft) {
-                return expression.asBinaryExpr().getLeft().toString().trim();
+                return expression.asBinaryExpr().getLeft();
             }
-            return expression.asBinaryExpr().getRight().toString().trim();
+            return expression.asBinaryExpr().getRight();
         }
-        return argument;
+        return expression;
+    }
+
+    /**
+     * Returns the name of the expression passed as input if it is of type NameExpr, null otherwise.
+     *
+     * @param expression the expression
+     * @return string
+     */
+    protected static String retrieveVariableName(Expression expression) {
+        return expression.isNameExpr() ? expression.asNameExpr().getNameAsString() : null;
     }
 
     /**
@@ -137,20 +136,23 @@ public abstract class AnalysisMethod {
     }
 
     /**
-     * Returns the body of the method passed in as input.
+     * Returns the profile of the method passed in as input, checking that the method has a body.
      *
      * @param method the method
-     * @return block stmt
+     * @return method profile
      * @throws ErrorException the error exception
      */
-    private static BlockStmt retrieveBodyMethod(MethodDeclaration method) throws ErrorException {
-        return Optional.ofNullable(method.findFirst(BlockStmt.class))
-                .get()
-                .orElseThrow(() -> generateErrorException(ErrorCode.ABSENCE_BODY_METHOD));
+    protected static MethodProfile retrieveMethodProfile(MethodDeclaration method) throws ErrorException {
+        MethodProfile profile = MethodProfile.of(method);
+        if (!profile.isBodyPresent()) {
+            throw generateErrorException(ErrorCode.ABSENCE_BODY_METHOD);
+        }
+        return profile;
     }
 
     /**
      * Returns a list of statements corresponding to the parameter passed in as input.
+     * The constructs tracked by the profile of the method are not searched again.
      *
      * @param method    the method
      * @param classStmt the class stmt
@@ -158,7 +160,11 @@ public abstract class AnalysisMethod {
      * @throws ErrorException the error exception
      */
     protected static List retrieveStatementsList(MethodDeclaration method, Class classStmt) throws ErrorException {
-        return retrieveBodyMethod(method).getChildNodesByType(classStmt);
+        MethodProfile profile = retrieveMethodProfile(method);
+        if (MethodProfile.isTracked(classStmt)) {
+            return profile.getStatements(classStmt);
+        }
+        return method.findFirst(BlockStmt.class).get().getChildNodesByType(classStmt);
     }
 
     /**
@@ -171,7 +177,7 @@ public abstract class AnalysisMethod {
      * @return boolean
      */
     protected static boolean checkConditionsElements(MethodDeclaration user, MethodDeclaration recursive, Expression exp1, Expression exp2) {
-        return Boolean.TRUE == !compareConditionsElements(user, recursive, exp1.toString(), exp2.toString());
+        return Boolean.TRUE == !compareConditionsElements(user, recursive, exp1, exp2);
     }
 
     /**
@@ -184,7 +190,7 @@ public abstract class AnalysisMethod {
      * @return boolean
      */
     protected static boolean checkElementContent(MethodDeclaration user, MethodDeclaration recursive, Expression exp1, Expression exp2) {
-        return Boolean.TRUE == !compareElementContent(user, recursive, exp1.toString(), exp2.toString());
+        return Boolean.TRUE == !compareElementContent(user, recursive, exp1, exp2);
     }
 
     /**
@@ -198,7 +204,7 @@ public abstract class AnalysisMethod {
      * @throws ErrorException the error exception
      */
     private static boolean compareListSizeClass(MethodDeclaration user, MethodDeclaration recursive, Class classStmt) throws ErrorException {
-        return retrieveStatementsList(user, classStmt).size() != retrieveStatementsList(recursive, classStmt).size();
+        return retrieveMethodProfile(user).getCount(classStmt) != retrieveMethodProfile(recursive).getCount(classStmt);
     }
 
     /**
@@ -278,18 +284,6 @@ public abstract class AnalysisMethod {
         return CollectionUtils.isEmpty(list1) && CollectionUtils.isNotEmpty(list2);
     }
 
-    /**
-     * Split with limit string [ ].
-     *
-     * @param string    the string
-     * @param separator the separator
-     * @param count     the count
-     * @return the string [ ]
-     */
-    protected static String[] splitWithLimit(String string, String separator, int count) {
-        return StringUtils.split(string, separator, count);
-    }
-
     /**
      * Check different meta model boolean.
      *
@@ -301,16 +295,6 @@ public abstract class AnalysisMethod {
         return user.getMetaModel() != recursive.getMetaModel();
     }
 
-    /**
-     * Retrieve string expression string.
-     *
-     * @param expression the expression
-     * @return string
-     */
-    protected static String retrieveStringExpression(Expression expression) {
-        return expression.toString().trim();
-    }
-
     /**
      * Retrieve binary expression binary expr.
      *
@@ -329,35 +313,62 @@ public abstract class AnalysisMethod {
      * @return boolean
      */
     public static boolean checkRecursiveCallArguments(MethodDeclaration user, MethodDeclaration recursive) {
-        NodeList<Expression> userArgumentsList = getRecursiveMethodCall(user).getArguments();
-        NodeList<Expression> recursiveArgumentsList = getRecursiveMethodCall(recursive).getArguments();
+        NodeList<Expression> userArgumentsList = MethodProfile.of(user).getRecursiveMethodCall().getArguments();
+        NodeList<Expression> recursiveArgumentsList = MethodProfile.of(recursive).getRecursiveMethodCall().getArguments();
 
         return iterativeListsFlow(userArgumentsList.stream(), recursiveArgumentsList.stream())
-                .anyMatch(pair -> Boolean.TRUE == !compareElementContent(user, recursive, pair.getKey().toString(), pair.getValue().toString()));
+                .anyMatch(pair -> Boolean.TRUE == !compareElementContent(user, recursive, pair.getKey(), pair.getValue()));
     }
 
     /**
-     * Count string matches int.
+     * Counts the logical operators of the type passed as input within the condition.
      *
-     * @param initialization the initialization
-     * @param matcher        the matcher
+     * @param condition the condition
+     * @param operator  the operator
      * @return int
      */
-    protected static int countStringMatches(String initialization, String matcher) {
-        return StringUtils.countMatches(initialization, matcher);
+    protected static int countLogicalOperators(Expression condition, BinaryExpr.Operator operator) {
+        return condition.findAll(BinaryExpr.class, binary -> binary.getOperator() == operator).size();
+    }
+
+    /**
+     * Checks whether the expression passed as input is a logical AND or OR.
+     *
+     * @param expression the expression
+     * @return boolean
+     */
+    private static boolean isLogicalExpression(Expression expression) {
+        return expression.isBinaryExpr() && (expression.asBinaryExpr().getOperator() == BinaryExpr.Operator.AND ||
+                expression.asBinaryExpr().getOperator() == BinaryExpr.Operator.OR);
     }
 
     /**
-     *  Performs a split of logical operators on the condition passed in as input and returns all conditions within a list.
+     * Splits the condition passed in as input on its logical operators and adds all the single conditions, from left to right, to the list.
+     *
+     * @param condition  the condition
+     * @param conditions the conditions
+     */
+    private static void retrieveConditionsList(Expression condition, List<Expression> conditions) {
+        if (isLogicalExpression(condition)) {
+            retrieveConditionsList(condition.asBinaryExpr().getLeft(), conditions);
+            retrieveConditionsList(condition.asBinaryExpr().getRight(), conditions);
+        } else if (condition.isEnclosedExpr() && isLogicalExpression(condition.asEnclosedExpr().getInner())) {
+            retrieveConditionsList(condition.asEnclosedExpr().getInner(), conditions);
+        } else {
+            conditions.add(condition);
+        }
+    }
+
+    /**
+     * Returns all the single conditions of the condition passed in as input, splitting it on its logical operators.
      *
      * @param condition the condition
-     * @param countAND the count and
-     * @param countOR the count or
      * @return list
      */
-    private static List<String> retrieveConditionsList(String condition, int countAND, int countOR) {
-        int count = countAND + (countOR * 2) + 1;
-        return Arrays.asList(splitWithLimit(condition, "&&|\\|", count));
+    private static List<Expression> retrieveConditionsList(Expression condition) {
+        List<Expression> conditions = new ArrayList<>();
+        retrieveConditionsList(condition, conditions);
+        return conditions;
     }
 
     /**
@@ -369,21 +380,20 @@ public abstract class AnalysisMethod {
      * @param recursiveCondition the recursive condition
      * @return boolean
      */
-    protected static boolean compareConditionsElements(MethodDeclaration user, MethodDeclaration recursive, String userCondition, String recursiveCondition) {
-        int userCountAND = countStringMatches(userCondition, "&&");
-        int userCountOR = countStringMatches(userCondition, "||");
+    protected static boolean compareConditionsElements(MethodDeclaration user, MethodDeclaration recursive, Expression userCondition, Expression recursiveCondition) {
+        int userCountAND = countLogicalOperators(userCondition, BinaryExpr.Operator.AND);
+        int userCountOR = countLogicalOperators(userCondition, BinaryExpr.Operator.OR);
 
-        if (userCountAND != countStringMatches(recursiveCondition, "&&") ||
-                userCountOR != countStringMatches(recursiveCondition, "||")) {
+        if (userCountAND != countLogicalOperators(recursiveCondition, BinaryExpr.Operator.AND) ||
+                userCountOR != countLogicalOperators(recursiveCondition, BinaryExpr.Operator.OR)) {
             return false;
         }
 
         if (userCountAND != 0 || userCountOR != 0) {
-            List<String> userList = retrieveConditionsList(userCondition, userCountAND, userCountOR);
-            List<String> recursiveList = retrieveConditionsList(recursiveCondition, userCountAND, userCountOR);
+            List<Expression> userList = retrieveConditionsList(userCondition);
+            List<Expression> recursiveList = retrieveConditionsList(recursiveCondition);
 
             return iterativeListsFlow(userList.stream(), recursiveList.stream())
-                    .filter(pair -> StringUtils.isNotBlank(pair.getKey()) && StringUtils.isNotBlank(pair.getValue()))
                     .anyMatch(pair -> Boolean.TRUE == compareElementContent(user, recursive, pair.getKey(), pair.getValue()));
         }
         return compareElementContent(user, recursive, userCondition, recursiveCondition);
@@ -391,6 +401,7 @@ public abstract class AnalysisMethod {
 
     /**
      * Verify that the elements passed are: method signature parameters, local variables, or simply values.
+     * During a comparison session, the result for the same two names is computed only once.
      *
      * @param user the user
      * @param recursive the recursive
@@ -399,6 +410,24 @@ public abstract class AnalysisMethod {
      * @return boolean
      */
     private static boolean compareMethodsElements(MethodDeclaration user, MethodDeclaration recursive, String userElement, String recursiveElement) {
+        ComparisonSession session = ComparisonSession.find(user, recursive);
+        if (session == null) {
+            return verifyMethodsElements(user, recursive, userElement, recursiveElement);
+        }
+        return session.compareMethodsElements(userElement, recursiveElement,
+                () -> verifyMethodsElements(user, recursive, userElement, recursiveElement));
+    }
+
+    /**
+     * Verify that the elements passed are: method signature parameters, local variables, or simply values.
+     *
+     * @param user the user
+     * @param recursive the recursive
+     * @param userElement the user element
+     * @param recursiveElement the recursive element
+     * @return boolean
+     */
+    private static boolean verifyMethodsElements(MethodDeclaration user, MethodDeclaration recursive, String userElement, String recursiveElement) {
         int recursiveIndex = getIndexParameter(recursive, recursiveElement);
         VariableDeclarator userVariable = findVariable(user, userElement);
         VariableDeclarator recursiveVariable = findVariable(recursive, recursiveElement);
@@ -406,30 +435,55 @@ public abstract class AnalysisMethod {
         if (recursiveIndex != getIndexParameter(user, userElement) ||
                 (recursiveVariable == null && userVariable != null) ||
                 (recursiveVariable != null && userVariable == null)) {
-            System.out.println("Error getIndex or not both variable!");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_PARAMETER_INDEX);
             return false;
         }
 
         if (recursiveIndex == -1 && recursiveVariable == null && !StringUtils.equals(userElement, recursiveElement)) {
-            System.out.println("Error recognize nature both variable");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_VARIABLE_NATURE);
             return false;
         }
 
         if (recursiveVariable != null && !verifyVariableContent(user, recursive, userVariable, recursiveVariable)) {
-            System.out.println("Error different variable content!");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_VARIABLE_CONTENT);
             return false;
         }
         return true;
     }
 
     /**
-     * Retrieve initialization value string.
+     * Verify that the elements passed are: method signature parameters, local variables, or simply values.
+     * Elements that are not simple names can not be parameters or local variables, so they must be equal.
      *
-     * @param string the string
-     * @return string
+     * @param user the user
+     * @param recursive the recursive
+     * @param userElement the user element
+     * @param recursiveElement the recursive element
+     * @return boolean
+     */
+    private static boolean compareMethodsElements(MethodDeclaration user, MethodDeclaration recursive, Expression userElement, Expression recursiveElement) {
+        if (userElement.isNameExpr() && recursiveElement.isNameExpr()) {
+            return compareMethodsElements(user, recursive, retrieveVariableName(userElement), retrieveVariableName(recursiveElement));
+        }
+        return userElement.equals(recursiveElement);
+    }
+
+    /**
+     * Checks the initialization values of the variables passed as input.
+     * Two variables without initialization are considered equal.
+     *
+     * @param user the user
+     * @param recursive the recursive
+     * @param userValue the user value
+     * @param recursiveValue the recursive value
+     * @return boolean
      */
-    protected static String retrieveInitializationValue(String string) {
-        return StringUtils.split(string, "=")[1].trim();
+    protected static boolean compareInitializationValues(MethodDeclaration user, MethodDeclaration recursive,
+                                                         Optional<Expression> userValue, Optional<Expression> recursiveValue) {
+        if (!userValue.isPresent() || !recursiveValue.isPresent()) {
+            return userValue.isPresent() == recursiveValue.isPresent();
+        }
+        return compareElementContent(user, recursive, userValue.get(), recursiveValue.get());
     }
 
     /**
@@ -446,8 +500,7 @@ public abstract class AnalysisMethod {
             return false;
         }
 
-        return compareElementContent(user, recursive, retrieveInitializationValue(userVariable.toString()),
-                retrieveInitializationValue(recursiveVariable.toString()));
+        return compareInitializationValues(user, recursive, userVariable.getInitializer(), recursiveVariable.getInitializer());
     }
 
     /**
@@ -469,11 +522,7 @@ public abstract class AnalysisMethod {
      * @return int
      */
     private static int getIndexParameter(MethodDeclaration method, String element) {
-        for (int i = 0; i < method.getParameters().size(); i++) {
-            if (method.getParameter(i).getNameAsString().equals(element))
-                return i;
-        }
-        return -1;
+        return SymbolTable.of(method).getParameterIndex(element);
     }
 
     /**
@@ -484,11 +533,7 @@ public abstract class AnalysisMethod {
      * @return variable declarator
      */
     private static VariableDeclarator findVariable(MethodDeclaration method, String element) {
-        return CollectionUtils.emptyIfNull(method.findAll(VariableDeclarator.class))
-                .stream()
-                .filter(variable -> StringUtils.equals(variable.getNameAsString(), element))
-                .findFirst()
-                .orElse(null);
+        return SymbolTable.of(method).findVariable(element);
     }
 
     /**
@@ -514,14 +559,12 @@ public abstract class AnalysisMethod {
     private static boolean verifyArrayContent(MethodDeclaration user, MethodDeclaration recursive, Expression userElement, Expression recursiveElement) {
         ArrayAccessExpr userAccess = retrieveArrayAccessExpression(userElement);
         ArrayAccessExpr recursiveAccess = retrieveArrayAccessExpression(recursiveElement);
-        if (!(compareMethodsElements(user, recursive,
-                userAccess.getName().toString(), recursiveAccess.getName().toString()))) {
-            System.out.println("Error to two NameExpr!");
+        if (!(compareMethodsElements(user, recursive, userAccess.getName(), recursiveAccess.getName()))) {
+            Diagnostics.report(DiagnosticReason.DIFFERENT_NAME_EXPR);
             return false;
         }
-        if (!(compareElementContent(user, recursive,
-                userAccess.getIndex().toString(), recursiveAccess.getIndex().toString()))) {
-            System.out.println("Error in indexes passed to arrays!");
+        if (!(compareElementContent(user, recursive, userAccess.getIndex(), recursiveAccess.getIndex()))) {
+            Diagnostics.report(DiagnosticReason.DIFFERENT_ARRAY_ACCESS);
             return false;
         }
 
@@ -552,14 +595,13 @@ public abstract class AnalysisMethod {
                                                     Expression userElement, Expression recursiveElement) {
         FieldAccessExpr userAccess = retrieveFieldAccessExpression(userElement);
         FieldAccessExpr recursiveAccess = retrieveFieldAccessExpression(recursiveElement);
-        if (!(compareMethodsElements(user, recursive,
-                userAccess.getScope().toString(), recursiveAccess.getScope().toString()))) {
-            System.out.println("Different FieldAccessExpr elements!");
+        if (!(compareMethodsElements(user, recursive, userAccess.getScope(), recursiveAccess.getScope()))) {
+            Diagnostics.report(DiagnosticReason.DIFFERENT_FIELD_ACCESS_ELEMENTS);
             return false;
         }
         if (!(compareMethodsElements(user, recursive,
                 userAccess.getNameAsString(), recursiveAccess.getNameAsString()))) {
-            System.out.println("Different FieldAccessExpr!");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_FIELD_ACCESS);
             return false;
         }
         return true;
@@ -601,10 +643,10 @@ public abstract class AnalysisMethod {
      * Returns the instance that calls the method.
      *
      * @param expression expression
-     * @return string
+     * @return expression
      */
-    private static String retrieveScope(Expression expression) {
-        return retrieveMethodCallExpr(expression).getScope().get().toString();
+    private static Expression retrieveScope(Expression expression) {
+        return retrieveMethodCallExpr(expression).getScope().get();
     }
 
     /**
@@ -619,20 +661,20 @@ public abstract class AnalysisMethod {
     private static boolean checkMethodCallCases(MethodDeclaration user, MethodDeclaration recursive,
                                                 Expression userExpression, Expression recursiveExpression) {
         if (checkIsPresentScope(userExpression) != checkIsPresentScope(recursiveExpression)) {
-            System.out.println("Scope not present in both MethodCalls!");
+            Diagnostics.report(DiagnosticReason.MISSING_CALL_SCOPE);
             return false;
         }
 
         if (checkIsPresentScope(userExpression) && checkIsPresentScope(recursiveExpression)) {
             if (!compareElementContent(user, recursive, retrieveScope(userExpression), retrieveScope(recursiveExpression))) {
-                System.out.println("Different scopes when comparing MethodCallExpr!");
+                Diagnostics.report(DiagnosticReason.DIFFERENT_CALL_SCOPE);
                 return false;
             }
         }
 
         if (!StringUtils.equals(retrieveMethodCallExpr(userExpression).getNameAsString(),
                 retrieveMethodCallExpr(recursiveExpression).getNameAsString())) {
-            System.out.println("Different method names in MethodCallExpr!");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_CALL_NAME);
             return false;
         }
 
@@ -640,7 +682,7 @@ public abstract class AnalysisMethod {
         NodeList<Expression> recursiveList = retrieveMethodCallArguments(recursiveExpression);
 
         if (userList.size() != recursiveList.size()) {
-            System.out.println("Different number of arguments in MethodCallExpr!");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_CALL_ARGUMENTS_NUMBER);
             return false;
         }
 
@@ -648,8 +690,7 @@ public abstract class AnalysisMethod {
             return true;
         }
         return iterativeListsFlow(userList.stream(), recursiveList.stream())
-                .anyMatch(pair -> Boolean.TRUE == compareElementContent(user, recursive,
-                        pair.getKey().toString(), pair.getValue().toString()));
+                .anyMatch(pair -> Boolean.TRUE == compareElementContent(user, recursive, pair.getKey(), pair.getValue()));
     }
 
     /**
@@ -657,19 +698,16 @@ public abstract class AnalysisMethod {
      *
      * @param user the user
      * @param recursive the recursive
-     * @param userVariable the user variable
-     * @param recursiveVariable the recursive variable
+     * @param userExpression the user expression
+     * @param recursiveExpression the recursive expression
      * @return boolean
      */
     private static boolean checkNotBinaryCases(MethodDeclaration user, MethodDeclaration recursive,
-                                               String userVariable, String recursiveVariable) {
-        Expression userExpression = retrieveExpression(userVariable);
-        Expression recursiveExpression = retrieveExpression(recursiveVariable);
-
+                                               Expression userExpression, Expression recursiveExpression) {
         if (userExpression.isNameExpr() && recursiveExpression.isNameExpr()) {
-            if (!compareMethodsElements(user, recursive, retrieveStringExpression(userExpression),
-                    retrieveStringExpression(recursiveExpression))) {
-                System.out.println("Error to two NameExpr!");
+            if (!compareMethodsElements(user, recursive, retrieveVariableName(userExpression),
+                    retrieveVariableName(recursiveExpression))) {
+                Diagnostics.report(DiagnosticReason.DIFFERENT_NAME_EXPR);
                 return false;
             }
             return true;
@@ -687,13 +725,66 @@ public abstract class AnalysisMethod {
             return checkMethodCallCases(user, recursive, userExpression, recursiveExpression);
         }
 
-        if (!StringUtils.equals(userVariable, recursiveVariable)) {
-            System.out.println("Error in the comparison between the values of the variables");
+        if (userExpression.isUnaryExpr() && recursiveExpression.isUnaryExpr()) {
+            return verifyUnaryContent(user, recursive, userExpression, recursiveExpression);
+        }
+
+        if (userExpression.isAssignExpr() && recursiveExpression.isAssignExpr()) {
+            return verifyAssignContent(user, recursive, userExpression, recursiveExpression);
+        }
+
+        if (!userExpression.equals(recursiveExpression)) {
+            Diagnostics.report(DiagnosticReason.DIFFERENT_VARIABLE_VALUE);
             return false;
         }
         return true;
     }
 
+    /**
+     * Checks the unary expressions passed in, such as "i++" or "-value", comparing their operators and then their operands.
+     * Returns false in case one of the two is different between methods.
+     *
+     * @param user the user
+     * @param recursive the recursive
+     * @param userElement the user element
+     * @param recursiveElement the recursive element
+     * @return boolean
+     */
+    private static boolean verifyUnaryContent(MethodDeclaration user, MethodDeclaration recursive,
+                                              Expression userElement, Expression recursiveElement) {
+        UnaryExpr userUnary = userElement.asUnaryExpr();
+        UnaryExpr recursiveUnary = recursiveElement.asUnaryExpr();
+        if (userUnary.getOperator() != recursiveUnary.getOperator()) {
+            Diagnostics.report(DiagnosticReason.DIFFERENT_OPERATOR);
+            return false;
+        }
+        return compareElementContent(user, recursive, userUnary.getExpression(), recursiveUnary.getExpression());
+    }
+
+    /**
+     * Checks the assignments passed in, such as "sum += value", comparing their operators, then their targets and then their values.
+     * Returns false in case one of the three is different between methods.
+     *
+     * @param user the user
+     * @param recursive the recursive
+     * @param userElement the user element
+     * @param recursiveElement the recursive element
+     * @return boolean
+     */
+    private static boolean verifyAssignContent(MethodDeclaration user, MethodDeclaration recursive,
+                                               Expression userElement, Expression recursiveElement) {
+        AssignExpr userAssign = userElement.asAssignExpr();
+        AssignExpr recursiveAssign = recursiveElement.asAssignExpr();
+        if (userAssign.getOperator() != recursiveAssign.getOperator()) {
+            Diagnostics.report(DiagnosticReason.DIFFERENT_OPERATOR);
+            return false;
+        }
+        if (!compareElementContent(user, recursive, userAssign.getTarget(), recursiveAssign.getTarget())) {
+            return false;
+        }
+        return compareElementContent(user, recursive, userAssign.getValue(), recursiveAssign.getValue());
+    }
+
     /**
      * Checks all binary cases of the elements passed in as input and compares them to each other.
      *
@@ -707,40 +798,56 @@ public abstract class AnalysisMethod {
                                             Expression userExpression, Expression recursiveExpression) {
         if (retrieveBinaryExpression(userExpression).getOperator() !=
                 retrieveBinaryExpression(recursiveExpression).getOperator()) {
-            System.out.println("Different operator!");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_OPERATOR);
             return false;
         }
 
-        if (!compareElementContent(user, recursive, isBinary(userExpression.toString(), true),
-                isBinary(recursiveExpression.toString(), true))) {
+        if (!compareElementContent(user, recursive, isBinary(userExpression, true), isBinary(recursiveExpression, true))) {
             return false;
         }
 
-        return compareElementContent(user, recursive, isBinary(userExpression.toString(), false),
-                isBinary(recursiveExpression.toString(), false));
+        return compareElementContent(user, recursive, isBinary(userExpression, false), isBinary(recursiveExpression, false));
     }
 
     /**
      * Fundamental method for comparing the elements to be analyzed.
+     * The expression trees of the two methods are walked directly, without converting them to strings.
+     * During a comparison session, the result for the same two expressions is computed only once.
      *
-     * @param user              the user
-     * @param recursive         the recursive
-     * @param userVariable      the user variable
-     * @param recursiveVariable the recursive variable
+     * @param user                the user
+     * @param recursive           the recursive
+     * @param userExpression      the user expression
+     * @param recursiveExpression the recursive expression
      * @return boolean
      */
     protected static boolean compareElementContent(MethodDeclaration user, MethodDeclaration recursive,
-                                                   String userVariable, String recursiveVariable) {
-        Expression userExpression = retrieveExpression(userVariable);
-        Expression recursiveExpression = retrieveExpression(recursiveVariable);
+                                                   Expression userExpression, Expression recursiveExpression) {
+        ComparisonSession session = ComparisonSession.find(user, recursive);
+        if (session == null) {
+            return verifyElementContent(user, recursive, userExpression, recursiveExpression);
+        }
+        return session.compareElementContent(userExpression, recursiveExpression,
+                () -> verifyElementContent(user, recursive, userExpression, recursiveExpression));
+    }
 
+    /**
+     * Compares the two expressions passed as input, according to their type.
+     *
+     * @param user                the user
+     * @param recursive           the recursive
+     * @param userExpression      the user expression
+     * @param recursiveExpression the recursive expression
+     * @return boolean
+     */
+    private static boolean verifyElementContent(MethodDeclaration user, MethodDeclaration recursive,
+                                                Expression userExpression, Expression recursiveExpression) {
         if (checkDifferentMetaModel(userExpression, recursiveExpression)) {
-            System.out.println("Error MetaModel!");
+            Diagnostics.report(DiagnosticReason.DIFFERENT_META_MODEL);
             return false;
         }
 
         if (!userExpression.isBinaryExpr() && !recursiveExpression.isBinaryExpr()) {
-            return checkNotBinaryCases(user, recursive, userVariable, recursiveVariable);
+            return checkNotBinaryCases(user, recursive, userExpression, recursiveExpression);
         }
         return checkBinaryCases(user, recursive, userExpression, recursiveExpression);
     }
@@ -2,17 +2,19 @@ package org.parser.analysis;
 
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
-import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.type.Type;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.parser.diagnostic.DiagnosticReason;
+import org.parser.diagnostic.Diagnostics;
 import org.parser.error.ErrorException;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * <h1> AnalysisRecursiveMethod </h1>
@@ -35,13 +37,23 @@ public abstract class AnalysisRecursiveMethod extends AnalysisMethod {
 
     /**
      * Returns the recursive method call that is found within the body of the method passed in, null otherwise.
+     * The call is searched only once per method and then read from its profile.
      *
      * @param methodDeclaration the method declaration
      * @return recursive method call
      */
     public static MethodCallExpr getRecursiveMethodCall(MethodDeclaration methodDeclaration) {
-        List<MethodCallExpr> listMethodCall = methodDeclaration.findAll(MethodCallExpr.class);
+        return MethodProfile.of(methodDeclaration).getRecursiveMethodCall();
+    }
 
+    /**
+     * Searches the recursive method call among the method calls, passed in as input, found within the body of the method.
+     *
+     * @param methodDeclaration the method declaration
+     * @param listMethodCall    the list method call
+     * @return recursive method call
+     */
+    static MethodCallExpr findRecursiveMethodCall(MethodDeclaration methodDeclaration, List<MethodCallExpr> listMethodCall) {
         for (MethodCallExpr method : listMethodCall) {
             NameExpr nameExpr = method.getNameAsExpression();
             NodeList arguments = method.getArguments();
@@ -53,7 +65,7 @@ public abstract class AnalysisRecursiveMethod extends AnalysisMethod {
                 List argumentsType = retrieveArgumentsType(arguments, methodDeclaration, parametersType);
 
                 if (parametersType.size() != argumentsType.size()) {
-                    System.out.println("The arguments of the recursive call can only be local variables or formal parameters!");
+                    Diagnostics.report(DiagnosticReason.INVALID_RECURSIVE_CALL_ARGUMENT);
                     return null;
                 }
 
@@ -74,23 +86,9 @@ public abstract class AnalysisRecursiveMethod extends AnalysisMethod {
         return null;
     }
 
-    /**
-     * Checks the list of local variable declarations whose names match those of the arguments passed in the method call.
-     *
-     * @param methodVariables the method variables
-     * @param argument the argument
-     * @return list
-     */
-    private static List<VariableDeclarationExpr> retrieveMethodArgumentsList(List<VariableDeclarationExpr> methodVariables, String argument) {
-        return CollectionUtils.emptyIfNull(methodVariables)
-                .stream()
-                .filter(variable -> StringUtils.equals(variable.getVariable(0).getNameAsString(), argument))
-                .collect(Collectors.toList());
-    }
-
     /**
      * Returns the type of the arguments to the method call, doing a name search between the current argument
-     * and the local variables or formal parameters (in case you don't match the former).
+     * and the local variables or formal parameters (in case you don't match the former), through the symbol table of the method.
      *
      * @param arguments the arguments
      * @param methodDeclaration the method declaration
@@ -101,20 +99,18 @@ public abstract class AnalysisRecursiveMethod extends AnalysisMethod {
         List argumentsType = new ArrayList();
         CollectionUtils.emptyIfNull(arguments)
                 .forEach(arg -> {
-                    String argument = isBinary(arg.toString(), null);
-                    List<VariableDeclarationExpr> methodVariables =
-                            methodDeclaration.getBody().get().findAll(VariableDeclarationExpr.class);
+                    String argument = retrieveVariableName(isBinary((Expression) arg, null));
+                    SymbolTable symbolTable = SymbolTable.of(methodDeclaration);
 
-                    CollectionUtils.emptyIfNull(retrieveMethodArgumentsList(methodVariables, argument))
-                            .stream()
-                            .findFirst()
-                            .map(element -> argumentsType.add(element.getVariable(0).getType()));
+                    Type declarationType = symbolTable.findDeclarationType(argument);
+                    if (declarationType != null) {
+                        argumentsType.add(declarationType);
+                    }
 
                     if (argumentsType.size() == arguments.indexOf(arg)) {
-                        for (int i = 0; i < methodDeclaration.getParameters().size(); i++) {
-                            if (methodDeclaration.getParameter(i).getNameAsString().equals(argument)) {
-                                argumentsType.add(parametersType.get(i));
-                            }
+                        int index = symbolTable.getParameterIndex(argument);
+                        if (index != -1) {
+                            argumentsType.add(parametersType.get(index));
                         }
                     }
                 });
@@ -5,8 +5,13 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.parser.analysis.creator.*;
 import org.parser.error.ErrorException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -14,9 +19,18 @@ import java.util.stream.Collectors;
  * <p>
  * This class is used to analyze all constructs used within the body of each method. It interacts directly with the main App class,
  * providing it with the instances needed to call the methods that will handle the analysis of the user class.
+ * <p>
+ * The constructs are provided by the implementations of ConstructCreator registered as services, in the order in which they are found,
+ * so a new construct can be analyzed by adding its creator to a "META-INF/services" file. Every construct is created only once
+ * and then shared by all the comparisons of all the threads.
  */
 public class AnalysisStatementConstructs {
 
+    /**
+     * The instances of all the constructs to be analyzed, created when the class is loaded.
+     */
+    private static final List<AnalysisMethod> CONSTRUCTS = loadConstructs();
+
     /**
      * It checks the correspondence between the constructs of the two methods passed in as input.
      *
@@ -26,14 +40,39 @@ public class AnalysisStatementConstructs {
      * @throws ErrorException the error exception
      */
     public static boolean checkAllConstruct(MethodDeclaration user, MethodDeclaration recursive) throws ErrorException {
-        List<ConstructCreator> creator = addConstructCreator();
-        List<AnalysisMethod> analysisMethods = setAllConstruct(creator);
+        return iterateAllConstruct(user, recursive, CONSTRUCTS);
+    }
+
+    /**
+     * Returns the shared instance of every construct to be analyzed, in the order in which checkAllConstruct analyzes them.
+     *
+     * @return list analysis method
+     */
+    public static List<AnalysisMethod> retrieveAllConstructs() {
+        return CONSTRUCTS;
+    }
 
-        return iterateAllConstruct(user, recursive, analysisMethods);
+    /**
+     * Creates the instances of the constructs provided by the creators registered as services.
+     * Every creator class is used only once, even if it is registered more than once on the class path.
+     * If no creator is registered, the constructs of the application are used.
+     *
+     * @return list analysis method
+     */
+    private static List<AnalysisMethod> loadConstructs() {
+        List<ConstructCreator> creators = new ArrayList<>();
+        Set<Class<?>> creatorClasses = new HashSet<>();
+
+        for (ConstructCreator creator : ServiceLoader.load(ConstructCreator.class, AnalysisStatementConstructs.class.getClassLoader())) {
+            if (creatorClasses.add(creator.getClass())) {
+                creators.add(creator);
+            }
+        }
+        return Collections.unmodifiableList(setAllConstruct(creators.isEmpty() ? addConstructCreator() : creators));
     }
 
     /**
-     * Returns a list containing all instances needed to construct objects representing the constructs.
+     * Returns a list containing all instances needed to construct objects representing the constructs of the application.
      *
      * @return list construct creator
      */
@@ -71,8 +110,8 @@ public class AnalysisStatementConstructs {
      * @throws ErrorException the error exception
      */
     private static boolean iterateAllConstruct(MethodDeclaration user, MethodDeclaration recursive, List<AnalysisMethod> analysisMethods) throws ErrorException {
-        for (AnalysisMethod method : analysisMethods) {
-            if (method.checkStatementList(user, recursive)) {
+        for (int i = 0; i < analysisMethods.size(); i++) {
+            if (analysisMethods.get(i).checkStatementList(user, recursive)) {
                 return true;
             }
         }
@@ -74,10 +74,10 @@ public class AnalysisSwitchConstruct extends AnalysisMethod {
      *
      * @param switchStmt the switch stmt
      * @param index the index
-     * @return string
+     * @return expression
      */
-    private static String retrieveSwitchCaseName(SwitchStmt switchStmt, int index) {
-        return switchStmt.getEntry(index).getLabels().get(0).toString();
+    private static Expression retrieveSwitchCaseName(SwitchStmt switchStmt, int index) {
+        return switchStmt.getEntry(index).getLabels().get(0);
     }
 
     /**
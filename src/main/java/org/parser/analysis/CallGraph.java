@@ -0,0 +1,254 @@
+package org.parser.analysis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1> CallGraph </h1>
+ * <p>
+ * This class represents the calls between the methods of a user file. Every node is a method, identified by its name
+ * and its number of parameters, which is how the analysis recognizes a recursive call; overloaded methods with the same
+ * number of parameters share the same node. A call is an edge whatever its scope, as long as the called method is declared in the file.
+ * The calls are those found by the lexical scan of the source, so the graph covers every method of the file,
+ * including those whose body is never parsed because the file has no candidate recursive method.
+ * <p>
+ * The strongly connected components of the graph are found with Tarjan's algorithm, in a time linear in the number
+ * of methods and calls, so that every method is classified as directly recursive, mutually recursive or not recursive at all.
+ * The algorithm is iterative, so the depth of the calls does not depend on the size of the file.
+ */
+public final class CallGraph {
+
+    /**
+     * The kind of recursion of a method.
+     */
+    public enum Recursion {
+        /**
+         * The method does not belong to any cycle of calls.
+         */
+        NONE,
+        /**
+         * The method calls itself and no other method of its cycle.
+         */
+        DIRECT,
+        /**
+         * The method belongs to a cycle of calls with other methods.
+         */
+        MUTUAL
+    }
+
+    private final Map<String, Integer> nodes = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    private final List<List<Integer>> edges = new ArrayList<>();
+    private final List<Boolean> selfCalls = new ArrayList<>();
+    private int[] components;
+    private int[] componentSizes;
+
+    /**
+     * Instantiates a new Call graph.
+     */
+    private CallGraph() {
+    }
+
+    /**
+     * Builds the graph of the calls passed as input and finds its strongly connected components.
+     * The calls are given as the keys of the called methods by the key of every method declared in the file,
+     * as returned by the scan of the source; the calls of methods not declared in the file are ignored.
+     *
+     * @param calls the calls
+     * @return call graph
+     */
+    public static CallGraph of(Map<String, ? extends Collection<String>> calls) {
+        CallGraph graph = new CallGraph();
+        calls.keySet().forEach(graph::addNode);
+        calls.forEach(graph::addEdges);
+        graph.findComponents();
+        return graph;
+    }
+
+    /**
+     * Returns the key of the node of the method with the name and the number of parameters passed as input,
+     * which is also the key of the node called by a call with that name and that number of arguments.
+     *
+     * @param name  the name
+     * @param arity the number of parameters
+     * @return string
+     */
+    public static String retrieveKey(String name, int arity) {
+        return name + "/" + arity;
+    }
+
+    /**
+     * Returns the name of the methods of the node whose key is passed as input.
+     *
+     * @param key the key
+     * @return string
+     */
+    public static String retrieveName(String key) {
+        return key.substring(0, key.lastIndexOf('/'));
+    }
+
+    /**
+     * Adds the node of the method whose key is passed as input.
+     *
+     * @param key the key
+     */
+    private void addNode(String key) {
+        nodes.put(key, keys.size());
+        keys.add(key);
+        edges.add(new ArrayList<>());
+        selfCalls.add(false);
+    }
+
+    /**
+     * Adds an edge for every call, made by the method whose key is passed as input, to a method of the graph.
+     *
+     * @param key        the key
+     * @param calledKeys the keys of the called methods
+     */
+    private void addEdges(String key, Collection<String> calledKeys) {
+        int node = nodes.get(key);
+        for (String calledKey : calledKeys) {
+            Integer called = nodes.get(calledKey);
+            if (called == null) {
+                continue;
+            }
+            if (called == node) {
+                selfCalls.set(node, true);
+            }
+            edges.get(node).add(called);
+        }
+    }
+
+    /**
+     * Finds the strongly connected components of the graph with Tarjan's algorithm, keeping the stack of the visit explicitly.
+     */
+    private void findComponents() {
+        int size = keys.size();
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        boolean[] onStack = new boolean[size];
+        Deque<Integer> stack = new ArrayDeque<>();
+        Deque<int[]> visit = new ArrayDeque<>();
+        List<Integer> sizes = new ArrayList<>();
+        int counter = 0;
+
+        Arrays.fill(index, -1);
+        components = new int[size];
+        for (int root = 0; root < size; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            index[root] = lowLink[root] = counter++;
+            stack.push(root);
+            onStack[root] = true;
+            visit.push(new int[]{root, 0});
+
+            while (!visit.isEmpty()) {
+                int[] frame = visit.peek();
+                int node = frame[0];
+                if (frame[1] < edges.get(node).size()) {
+                    int next = edges.get(node).get(frame[1]++);
+                    if (index[next] == -1) {
+                        index[next] = lowLink[next] = counter++;
+                        stack.push(next);
+                        onStack[next] = true;
+                        visit.push(new int[]{next, 0});
+                    } else if (onStack[next]) {
+                        lowLink[node] = Math.min(lowLink[node], index[next]);
+                    }
+                    continue;
+                }
+
+                visit.pop();
+                if (!visit.isEmpty()) {
+                    int parent = visit.peek()[0];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+                if (lowLink[node] == index[node]) {
+                    int member;
+                    int count = 0;
+                    do {
+                        member = stack.pop();
+                        onStack[member] = false;
+                        components[member] = sizes.size();
+                        count++;
+                    } while (member != node);
+                    sizes.add(count);
+                }
+            }
+        }
+
+        componentSizes = new int[sizes.size()];
+        for (int i = 0; i < componentSizes.length; i++) {
+            componentSizes[i] = sizes.get(i);
+        }
+    }
+
+    /**
+     * Returns the node of the method whose key is passed as input, -1 if the method is not part of the graph.
+     *
+     * @param key the key
+     * @return int
+     */
+    private int retrieveNode(String key) {
+        Integer node = nodes.get(key);
+        return node == null ? -1 : node;
+    }
+
+    /**
+     * Returns the kind of recursion of the method whose key is passed as input.
+     *
+     * @param key the key
+     * @return recursion
+     */
+    public Recursion classify(String key) {
+        int node = retrieveNode(key);
+        if (node == -1) {
+            return Recursion.NONE;
+        }
+        if (componentSizes[components[node]] > 1) {
+            return Recursion.MUTUAL;
+        }
+        return selfCalls.get(node) ? Recursion.DIRECT : Recursion.NONE;
+    }
+
+    /**
+     * Checks whether the method whose key is passed as input calls a method with its own name and number of parameters,
+     * which is required for it to be converted, whatever its kind of recursion.
+     *
+     * @param key the key
+     * @return boolean
+     */
+    public boolean callsItself(String key) {
+        int node = retrieveNode(key);
+        return node != -1 && selfCalls.get(node);
+    }
+
+    /**
+     * Returns the keys of the other methods belonging to the same cycle of calls as the method whose key is passed as input,
+     * empty if the recursion is not mutual.
+     *
+     * @param key the key
+     * @return list
+     */
+    public List<String> retrieveCycle(String key) {
+        int node = retrieveNode(key);
+        if (node == -1 || componentSizes[components[node]] < 2) {
+            return Collections.emptyList();
+        }
+        List<String> cycle = new ArrayList<>();
+        for (int other = 0; other < keys.size(); other++) {
+            if (other != node && components[other] == components[node]) {
+                cycle.add(keys.get(other));
+            }
+        }
+        return cycle;
+    }
+}
@@ -0,0 +1,168 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.Expression;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <h1> ComparisonSession </h1>
+ * <p>
+ * This class remembers the results of the element comparisons made while a user method is compared with one recursive method
+ * of the catalog, so that the same sub-expressions, compared again by different analyzers, are looked up instead of walked again.
+ * The comparisons of expressions are keyed by the identity of the two nodes, those of names by the two names,
+ * since their result only depends on the two methods being compared.
+ * <p>
+ * The session is stored in the user method, which belongs to the thread converting its file, and lasts for a single comparison:
+ * the methods of the catalog, shared by all the threads, are never modified.
+ */
+public final class ComparisonSession {
+    private static final DataKey<ComparisonSession> COMPARISON_SESSION = new DataKey<ComparisonSession>() {
+    };
+
+    private final MethodDeclaration recursive;
+    private final Map<NodePair, Boolean> elementContents = new HashMap<>();
+    private final Map<String, Boolean> methodsElements = new HashMap<>();
+    private int lookups;
+    private int hits;
+
+    /**
+     * Instantiates a new Comparison session.
+     *
+     * @param recursive the recursive
+     */
+    private ComparisonSession(MethodDeclaration recursive) {
+        this.recursive = recursive;
+    }
+
+    /**
+     * Starts the comparison between the two methods passed as input, replacing any previous session of the user method.
+     *
+     * @param user      the user
+     * @param recursive the recursive
+     * @return comparison session
+     */
+    public static ComparisonSession open(MethodDeclaration user, MethodDeclaration recursive) {
+        ComparisonSession session = new ComparisonSession(recursive);
+        user.setData(COMPARISON_SESSION, session);
+        return session;
+    }
+
+    /**
+     * Ends the comparison of the user method passed as input, discarding the results remembered so far.
+     *
+     * @param user the user
+     */
+    public static void close(MethodDeclaration user) {
+        user.removeData(COMPARISON_SESSION);
+    }
+
+    /**
+     * Returns the session of the comparison between the two methods passed as input, null if no such comparison is in progress.
+     *
+     * @param user      the user
+     * @param recursive the recursive
+     * @return comparison session
+     */
+    static ComparisonSession find(MethodDeclaration user, MethodDeclaration recursive) {
+        if (!user.containsData(COMPARISON_SESSION)) {
+            return null;
+        }
+        ComparisonSession session = user.getData(COMPARISON_SESSION);
+        return session.recursive == recursive ? session : null;
+    }
+
+    /**
+     * Returns the result of the comparison of the two expressions passed as input, computing it only the first time.
+     *
+     * @param userExpression      the user expression
+     * @param recursiveExpression the recursive expression
+     * @param comparison          the comparison
+     * @return boolean
+     */
+    boolean compareElementContent(Expression userExpression, Expression recursiveExpression, Supplier<Boolean> comparison) {
+        return lookUp(elementContents, new NodePair(userExpression, recursiveExpression), comparison);
+    }
+
+    /**
+     * Returns the result of the comparison of the two names passed as input, computing it only the first time.
+     *
+     * @param userElement      the user element
+     * @param recursiveElement the recursive element
+     * @param comparison       the comparison
+     * @return boolean
+     */
+    boolean compareMethodsElements(String userElement, String recursiveElement, Supplier<Boolean> comparison) {
+        return lookUp(methodsElements, userElement + "\u0000" + recursiveElement, comparison);
+    }
+
+    /**
+     * Looks up the key passed as input, computing and storing the result if it is missing.
+     * The comparison may look up other keys of the same session, so the map is not modified while it is computed.
+     *
+     * @param results    the results
+     * @param key        the key
+     * @param comparison the comparison
+     * @param <K>        the type of the key
+     * @return boolean
+     */
+    private <K> boolean lookUp(Map<K, Boolean> results, K key, Supplier<Boolean> comparison) {
+        lookups++;
+        Boolean result = results.get(key);
+        if (result != null) {
+            hits++;
+            return result;
+        }
+        result = comparison.get();
+        results.put(key, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of comparisons looked up in the session.
+     *
+     * @return int
+     */
+    public int getLookups() {
+        return lookups;
+    }
+
+    /**
+     * Returns the number of comparisons whose result was already known.
+     *
+     * @return int
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * A pair of expressions compared by identity.
+     */
+    private static final class NodePair {
+        private final Expression user;
+        private final Expression recursive;
+
+        private NodePair(Expression user, Expression recursive) {
+            this.user = user;
+            this.recursive = recursive;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof NodePair)) {
+                return false;
+            }
+            NodePair that = (NodePair) o;
+            return user == that.user && recursive == that.recursive;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(user) + System.identityHashCode(recursive);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.SimpleName;
+import com.github.javaparser.ast.visitor.CloneVisitor;
+import com.github.javaparser.ast.visitor.Visitable;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * <h1> IterativeTemplate </h1>
+ * <p>
+ * This class turns the iterative version of an algorithm into a template, recording the names that refer to its formal parameters:
+ * the names of the parameters themselves and every use of them as a variable within the body.
+ * A new iterative method, with the formal parameter names of the user, is built by cloning the template and substituting
+ * only those names, so the template is never printed nor parsed again, and names found in literals, comments,
+ * method names or field accesses are left unchanged.
+ * <p>
+ * The template is built once and stored in the method itself: for the methods of the catalog, this happens before
+ * the algorithm is published to the other threads, which then only read it.
+ */
+public final class IterativeTemplate {
+    private static final DataKey<IterativeTemplate> ITERATIVE_TEMPLATE = new DataKey<IterativeTemplate>() {
+    };
+
+    private final MethodDeclaration method;
+    private final Map<SimpleName, Integer> parameterNames;
+
+    /**
+     * Instantiates a new Iterative template.
+     *
+     * @param method the method
+     */
+    private IterativeTemplate(MethodDeclaration method) {
+        Map<String, Integer> parameterIndexes = new HashMap<>();
+        Map<SimpleName, Integer> names = new IdentityHashMap<>();
+
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            Parameter parameter = method.getParameter(i);
+            parameterIndexes.put(parameter.getNameAsString(), i);
+            names.put(parameter.getName(), i);
+        }
+        method.getBody().ifPresent(body -> body.walk(NameExpr.class, expr -> {
+            Integer index = parameterIndexes.get(expr.getNameAsString());
+            if (index != null) {
+                names.put(expr.getName(), index);
+            }
+        }));
+
+        this.method = method;
+        this.parameterNames = Collections.unmodifiableMap(names);
+    }
+
+    /**
+     * Returns the template of the iterative method passed as input, building it the first time it is requested.
+     *
+     * @param method the method
+     * @return iterative template
+     */
+    public static IterativeTemplate of(MethodDeclaration method) {
+        if (method.containsData(ITERATIVE_TEMPLATE)) {
+            return method.getData(ITERATIVE_TEMPLATE);
+        }
+        IterativeTemplate template = new IterativeTemplate(method);
+        method.setData(ITERATIVE_TEMPLATE, template);
+        return template;
+    }
+
+    /**
+     * Returns a new copy of the iterative method in which every formal parameter takes the name of the corresponding parameter
+     * of the user method passed as input, provided that the two parameters have the same type.
+     *
+     * @param userMethod the user method
+     * @return method declaration
+     */
+    public MethodDeclaration instantiate(MethodDeclaration userMethod) {
+        String[] newNames = new String[method.getParameters().size()];
+
+        for (int i = 0; i < newNames.length; i++) {
+            Parameter iterativeParameter = method.getParameter(i);
+            Parameter userParameter = userMethod.getParameter(i);
+
+            if (StringUtils.equals(iterativeParameter.getType().toString(), userParameter.getType().toString())) {
+                newNames[i] = userParameter.getNameAsString();
+            }
+        }
+
+        return (MethodDeclaration) method.accept(new SubstitutionVisitor(), newNames);
+    }
+
+    /**
+     * The visitor that clones the template, substituting the names of the formal parameters with the ones passed as argument.
+     */
+    private final class SubstitutionVisitor extends CloneVisitor {
+
+        @Override
+        public Visitable visit(SimpleName n, Object arg) {
+            SimpleName name = (SimpleName) super.visit(n, arg);
+            Integer index = parameterNames.get(n);
+            String[] newNames = (String[]) arg;
+
+            if (index != null && newNames[index] != null) {
+                name.setIdentifier(newNames[index]);
+            }
+            return name;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.parser.error.ErrorException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * <h1> MatchingPipeline </h1>
+ * <p>
+ * This class runs the stages that can reject a pair made of a user method and a recursive method of the catalog,
+ * stopping at the first stage that rejects it. The stages are independent of each other, so their order does not change the result:
+ * it starts as the order in which they are given and, every few pairs, the stages are sorted again by their measured rank,
+ * so that most pairs are rejected by the cheapest and most selective stages.
+ * <p>
+ * The first stages can be pinned: they always run first, in the order in which they are given, and only the following stages are sorted.
+ * A pinned stage examines every pair, so its counters and the reasons it reports do not depend on the measured order,
+ * while the reason of a pair rejected by more than one of the following stages is the one of the stage that currently runs first.
+ * <p>
+ * The same instance is used by all the threads of a run: every pair is examined with the order read when it starts,
+ * and a new order replaces the previous one as a whole.
+ */
+public final class MatchingPipeline {
+
+    /**
+     * The number of pairs examined between two sortings of the stages.
+     */
+    private static final int REORDER_INTERVAL = 64;
+
+    private final List<MatchingStage> stages;
+    private final int pinnedStages;
+    private final AtomicLong examinedPairs = new AtomicLong();
+    private volatile List<MatchingStage> order;
+
+    /**
+     * Instantiates a new Matching pipeline whose stages are all sorted.
+     *
+     * @param stages the stages, in their initial order
+     */
+    public MatchingPipeline(List<MatchingStage> stages) {
+        this(stages, 0);
+    }
+
+    /**
+     * Instantiates a new Matching pipeline.
+     *
+     * @param stages       the stages, in their initial order
+     * @param pinnedStages the number of stages, at the beginning of the list, that always run first in the given order
+     */
+    public MatchingPipeline(List<MatchingStage> stages, int pinnedStages) {
+        this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+        this.pinnedStages = pinnedStages;
+        this.order = this.stages;
+    }
+
+    /**
+     * Runs the stages on the two methods passed as input, until one of them rejects the pair.
+     *
+     * @param user      the user
+     * @param recursive the recursive
+     * @return the stage that rejected the pair, null if the pair passed all the stages
+     * @throws ErrorException the error exception
+     */
+    public MatchingStage findRejectingStage(MethodDeclaration user, MethodDeclaration recursive) throws ErrorException {
+        try {
+            for (MatchingStage stage : order) {
+                if (stage.rejects(user, recursive)) {
+                    return stage;
+                }
+            }
+            return null;
+        } finally {
+            if (examinedPairs.incrementAndGet() % REORDER_INTERVAL == 0) {
+                reorder();
+            }
+        }
+    }
+
+    /**
+     * Sorts the stages that are not pinned by their rank. The sort is stable, so the stages with the same rank keep their initial order.
+     */
+    private void reorder() {
+        List<MatchingStage> sorted = new ArrayList<>(stages);
+        sorted.subList(pinnedStages, sorted.size()).sort(Comparator.comparingDouble(MatchingStage::retrieveRank));
+        order = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Returns the stages in the order in which they currently run.
+     *
+     * @return list
+     */
+    public List<MatchingStage> getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the number of pairs examined so far.
+     *
+     * @return long
+     */
+    public long getExaminedPairs() {
+        return examinedPairs.get();
+    }
+
+    /**
+     * Returns a description of the current order of the stages and of the work of each one.
+     *
+     * @return string
+     */
+    public String retrievePipelineReport() {
+        List<MatchingStage> current = order;
+        return "Matching pipeline: " + getExaminedPairs() + " pairs, stage order "
+                + current.stream().map(MatchingStage::getName).collect(Collectors.joining(" > "))
+                + current.stream().map(stage -> System.lineSeparator() + "  " + stage.retrieveStageReport()).collect(Collectors.joining());
+    }
+}
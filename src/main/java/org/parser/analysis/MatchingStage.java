@@ -0,0 +1,139 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.parser.error.ErrorException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h1> MatchingStage </h1>
+ * <p>
+ * This class represents one of the checks that can reject a pair made of a user method and a recursive method of the catalog.
+ * Every stage measures how many pairs it examines, how many of them it rejects and how long it takes,
+ * so that the pipeline can run first the stages that reject the most pairs at the lowest cost.
+ * The same instance is used by all the threads of a run, so its counters are updated concurrently.
+ */
+public final class MatchingStage {
+
+    /**
+     * The lowest rejection rate considered when ranking a stage, so that a stage that never rejects is not ranked by a division by zero.
+     */
+    private static final double MIN_REJECTION_RATE = 0.001;
+
+    /**
+     * The check performed by a stage.
+     */
+    @FunctionalInterface
+    public interface Check {
+        /**
+         * Checks whether the user method passed as input must be rejected, since it differs from the recursive method passed as input.
+         *
+         * @param user      the user
+         * @param recursive the recursive
+         * @return true if the pair is rejected
+         * @throws ErrorException the error exception
+         */
+        boolean rejects(MethodDeclaration user, MethodDeclaration recursive) throws ErrorException;
+    }
+
+    private final String name;
+    private final Check check;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * Instantiates a new Matching stage.
+     *
+     * @param name  the name
+     * @param check the check
+     */
+    public MatchingStage(String name, Check check) {
+        this.name = name;
+        this.check = check;
+    }
+
+    /**
+     * Runs the check of the stage on the two methods passed as input, measuring it.
+     *
+     * @param user      the user
+     * @param recursive the recursive
+     * @return true if the pair is rejected
+     * @throws ErrorException the error exception
+     */
+    public boolean rejects(MethodDeclaration user, MethodDeclaration recursive) throws ErrorException {
+        long start = System.nanoTime();
+        try {
+            boolean rejected = check.rejects(user, recursive);
+            if (rejected) {
+                rejections.increment();
+            }
+            return rejected;
+        } finally {
+            nanos.add(System.nanoTime() - start);
+            evaluations.increment();
+        }
+    }
+
+    /**
+     * Returns the rank of the stage, that is its average cost divided by its rejection rate: the lower the rank, the earlier the stage runs.
+     * A stage that has never run is ranked first, so that it gets measured.
+     *
+     * @return double
+     */
+    public double retrieveRank() {
+        long count = evaluations.sum();
+        if (count == 0) {
+            return 0;
+        }
+        double rejectionRate = Math.max((double) rejections.sum() / count, MIN_REJECTION_RATE);
+        return nanos.sum() / (double) count / rejectionRate;
+    }
+
+    /**
+     * Returns the name of the stage.
+     *
+     * @return string
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of pairs examined by the stage so far.
+     *
+     * @return long
+     */
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Returns the number of pairs rejected by the stage so far.
+     *
+     * @return long
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * Returns the average time spent by the stage on a pair, in microseconds.
+     *
+     * @return double
+     */
+    public double getAverageMicros() {
+        long count = evaluations.sum();
+        return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(nanos.sum()) / count;
+    }
+
+    /**
+     * Returns a description of the work of the stage.
+     *
+     * @return string
+     */
+    public String retrieveStageReport() {
+        return String.format("%s: %d of %d pairs rejected, %.1f us per pair", name, getRejections(), getEvaluations(), getAverageMicros());
+    }
+}
@@ -0,0 +1,234 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.catalog.AlgorithmEntry;
+import org.parser.diagnostic.DiagnosticReason;
+import org.parser.diagnostic.Diagnostics;
+import org.parser.error.ErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.parser.analysis.AnalysisMethod.checkMethodSignature;
+import static org.parser.analysis.AnalysisMethod.checkRecursiveCallArguments;
+import static org.parser.analysis.AnalysisMethod.compareSizeLists;
+import static org.parser.analysis.AnalysisStatementConstructs.retrieveAllConstructs;
+
+/**
+ * <h1> MethodMatcher </h1>
+ * <p>
+ * This class searches the catalog for the algorithm equal to a recursive method of the user.
+ * Only the algorithms with the same signature are considered. Each of them is then compared with the user method
+ * by a pipeline of stages: the structural fingerprint, the number of constructs, every type of construct and the arguments
+ * of the recursive call. The fingerprint always runs first, so that the prefilter examines every pair; the pipeline then runs first
+ * the stages that reject the most pairs at the lowest cost, as measured during the run.
+ * The comparison takes place in a comparison session that remembers the results of the element comparisons.
+ * The same instance is shared by all the files of a run, so its counters are updated concurrently.
+ */
+public class MethodMatcher {
+    private final AlgorithmCatalog catalog;
+    private final LongAdder prefilterComparisons = new LongAdder();
+    private final LongAdder prunedComparisons = new LongAdder();
+    private final LongAdder sessionLookups = new LongAdder();
+    private final LongAdder sessionHits = new LongAdder();
+    private final MatchingPipeline pipeline;
+
+    /**
+     * Instantiates a new Method matcher.
+     *
+     * @param catalog the catalog
+     */
+    public MethodMatcher(AlgorithmCatalog catalog) {
+        this.catalog = catalog;
+        this.pipeline = new MatchingPipeline(createStages(), 1);
+    }
+
+    /**
+     * Returns the stages of the comparison, in the order in which they were run before the pipeline was introduced.
+     * The first one, the structural fingerprint, is pinned at the front of the pipeline.
+     *
+     * @return list
+     */
+    private List<MatchingStage> createStages() {
+        List<MatchingStage> stages = new ArrayList<>();
+        stages.add(new MatchingStage("fingerprint", (user, recursive) -> !checkStructuralFingerprint(user, recursive)));
+        stages.add(new MatchingStage("construct counts", (user, recursive) -> {
+            if (compareSizeLists(user, recursive)) {
+                Diagnostics.report(DiagnosticReason.DIFFERENT_CONSTRUCTS_NUMBER);
+                return true;
+            }
+            return false;
+        }));
+
+        for (AnalysisMethod construct : retrieveAllConstructs()) {
+            String name = retrieveStageName(construct);
+            stages.add(new MatchingStage(name, (user, recursive) -> {
+                if (construct.checkStatementList(user, recursive)) {
+                    Diagnostics.report(DiagnosticReason.DIFFERENT_CONSTRUCT, recursive);
+                    return true;
+                }
+                return false;
+            }));
+        }
+
+        stages.add(new MatchingStage("recursive call arguments", (user, recursive) -> {
+            if (checkRecursiveCallArguments(user, recursive)) {
+                Diagnostics.report(DiagnosticReason.DIFFERENT_RECURSIVE_CALL_ARGUMENTS, recursive);
+                return true;
+            }
+            return false;
+        }));
+        return stages;
+    }
+
+    /**
+     * Returns the algorithm whose recursive version is equal to the user method passed as input, null if there is no such algorithm.
+     *
+     * @param userMethod the user method
+     * @return algorithm entry
+     * @throws ErrorException the error exception
+     */
+    public AlgorithmEntry findIterativeVersion(MethodDeclaration userMethod) throws ErrorException {
+        for (AlgorithmEntry algorithm : catalog.findCandidates(userMethod)) {
+            MethodDeclaration recursiveMethod = algorithm.getRecursiveMethod();
+
+            if (checkMethodSignature(userMethod, recursiveMethod) && compareInSession(userMethod, recursiveMethod)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of the stage of the construct passed as input, that is the name of its class without "Analysis" and "Construct".
+     *
+     * @param construct the construct
+     * @return string
+     */
+    private static String retrieveStageName(AnalysisMethod construct) {
+        String name = construct.getClass().getSimpleName();
+        if (name.isEmpty()) {
+            return construct.getClass().getName();
+        }
+        return name.replace("Analysis", "").replace("Construct", "");
+    }
+
+    /**
+     * Runs the pipeline of stages on the two methods passed as input, within a comparison session that lasts until the comparison ends.
+     *
+     * @param userMethod      the user method
+     * @param recursiveMethod the recursive method
+     * @return true if the methods are equal
+     * @throws ErrorException the error exception
+     */
+    private boolean compareInSession(MethodDeclaration userMethod, MethodDeclaration recursiveMethod) throws ErrorException {
+        ComparisonSession session = ComparisonSession.open(userMethod, recursiveMethod);
+        try {
+            if (pipeline.findRejectingStage(userMethod, recursiveMethod) != null) {
+                return false;
+            }
+
+            Diagnostics.report(DiagnosticReason.SAME_RECURSIVE_CALL_ARGUMENTS);
+            return true;
+        } finally {
+            ComparisonSession.close(userMethod);
+            sessionLookups.add(session.getLookups());
+            sessionHits.add(session.getHits());
+        }
+    }
+
+    /**
+     * Compares the structural fingerprints of the two methods passed as input, counting the comparisons it prunes.
+     * A pruned comparison is reported with the number of constructs, when it differs, as the detailed comparison would do,
+     * otherwise with the difference in the shape of the conditions or of the recursive call.
+     * The reason is only looked for when diagnostics are enabled.
+     *
+     * @param userMethod      the user method
+     * @param recursiveMethod the recursive method
+     * @return boolean
+     * @throws ErrorException the error exception
+     */
+    private boolean checkStructuralFingerprint(MethodDeclaration userMethod, MethodDeclaration recursiveMethod) throws ErrorException {
+        prefilterComparisons.increment();
+        if (StructuralFingerprint.of(userMethod).isCompatible(StructuralFingerprint.of(recursiveMethod))) {
+            return true;
+        }
+        prunedComparisons.increment();
+        if (Diagnostics.isEnabled()) {
+            if (compareSizeLists(userMethod, recursiveMethod)) {
+                Diagnostics.report(DiagnosticReason.DIFFERENT_CONSTRUCTS_NUMBER);
+            } else {
+                Diagnostics.report(DiagnosticReason.DIFFERENT_STRUCTURE, recursiveMethod);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of comparisons examined by the structural prefilter.
+     *
+     * @return long
+     */
+    public long getPrefilterComparisons() {
+        return prefilterComparisons.sum();
+    }
+
+    /**
+     * Returns the number of comparisons rejected by the structural prefilter.
+     *
+     * @return long
+     */
+    public long getPrunedComparisons() {
+        return prunedComparisons.sum();
+    }
+
+    /**
+     * Returns the number of element comparisons looked up in the comparison sessions.
+     *
+     * @return long
+     */
+    public long getSessionLookups() {
+        return sessionLookups.sum();
+    }
+
+    /**
+     * Returns the number of element comparisons whose result was already known to their comparison session.
+     *
+     * @return long
+     */
+    public long getSessionHits() {
+        return sessionHits.sum();
+    }
+
+    /**
+     * Returns a description of the work saved by the structural prefilter.
+     *
+     * @return string
+     */
+    public String retrievePrefilterReport() {
+        return "Structural prefilter: " + getPrunedComparisons() + " of " + getPrefilterComparisons() + " comparisons pruned";
+    }
+
+    /**
+     * Returns the pipeline of the stages of the comparison.
+     *
+     * @return matching pipeline
+     */
+    public MatchingPipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Returns a description of the work saved by the comparison sessions.
+     *
+     * @return string
+     */
+    public String retrieveSessionReport() {
+        long lookups = getSessionLookups();
+        long hits = getSessionHits();
+        return "Comparison sessions: " + hits + " of " + lookups + " element comparisons reused ("
+                + (lookups == 0 ? 0 : hits * 100 / lookups) + "%)";
+    }
+}
@@ -0,0 +1,152 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.BreakStmt;
+import com.github.javaparser.ast.stmt.ContinueStmt;
+import com.github.javaparser.ast.stmt.DoStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <h1> MethodProfile </h1>
+ * <p>
+ * This class contains everything the analyzers need to know about the constructs of a method:
+ * the constructs grouped by type, in the order in which they appear in the body, the number of constructs of each type
+ * and the recursive call of the method. It is built with a single traversal of the body and stored in the method itself,
+ * so that it is computed only once per method, and only once per process for the methods of the catalog.
+ */
+public final class MethodProfile {
+    private static final DataKey<MethodProfile> METHOD_PROFILE = new DataKey<MethodProfile>() {
+    };
+
+    /**
+     * The types of construct tracked by the profile.
+     */
+    private static final List<Class<? extends Node>> CONSTRUCT_TYPES = Collections.unmodifiableList(Arrays.asList(
+            IfStmt.class, ForStmt.class, ForEachStmt.class, WhileStmt.class, DoStmt.class,
+            SwitchStmt.class, BreakStmt.class, ContinueStmt.class));
+
+    private final boolean bodyPresent;
+    private final List<List<Node>> constructs;
+    private final int[] counts;
+    private final MethodCallExpr recursiveMethodCall;
+
+    /**
+     * Instantiates a new Method profile.
+     *
+     * @param method the method
+     */
+    private MethodProfile(MethodDeclaration method) {
+        Optional<BlockStmt> body = method.findFirst(BlockStmt.class);
+        List<List<Node>> lists = new ArrayList<>();
+        CONSTRUCT_TYPES.forEach(type -> lists.add(new ArrayList<>()));
+        List<MethodCallExpr> methodCalls = new ArrayList<>();
+
+        body.ifPresent(block -> block.walk(node -> {
+            if (node instanceof MethodCallExpr) {
+                methodCalls.add((MethodCallExpr) node);
+                return;
+            }
+            int index = CONSTRUCT_TYPES.indexOf(node.getClass());
+            if (index != -1) {
+                lists.get(index).add(node);
+            }
+        }));
+
+        this.bodyPresent = body.isPresent();
+        this.counts = new int[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            counts[i] = lists.get(i).size();
+            lists.set(i, Collections.unmodifiableList(lists.get(i)));
+        }
+        this.constructs = Collections.unmodifiableList(lists);
+        this.recursiveMethodCall = AnalysisRecursiveMethod.findRecursiveMethodCall(method, methodCalls);
+    }
+
+    /**
+     * Returns the profile of the method passed as input, building it the first time it is requested.
+     *
+     * @param method the method
+     * @return method profile
+     */
+    public static MethodProfile of(MethodDeclaration method) {
+        if (method.containsData(METHOD_PROFILE)) {
+            return method.getData(METHOD_PROFILE);
+        }
+        MethodProfile profile = new MethodProfile(method);
+        method.setData(METHOD_PROFILE, profile);
+        return profile;
+    }
+
+    /**
+     * Discards the profile of the method passed as input, which must be called whenever the method is modified.
+     *
+     * @param method the method
+     */
+    public static void invalidate(MethodDeclaration method) {
+        method.removeData(METHOD_PROFILE);
+    }
+
+    /**
+     * Checks whether the type passed as input is one of the constructs tracked by the profile.
+     *
+     * @param classStmt the class stmt
+     * @return boolean
+     */
+    public static boolean isTracked(Class<?> classStmt) {
+        return CONSTRUCT_TYPES.contains(classStmt);
+    }
+
+    /**
+     * Checks whether the method has a body.
+     *
+     * @return boolean
+     */
+    public boolean isBodyPresent() {
+        return bodyPresent;
+    }
+
+    /**
+     * Returns all the constructs of the type passed as input, in the order in which they appear in the body.
+     *
+     * @param classStmt the class stmt
+     * @param <T>       the type of the construct
+     * @return list
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Node> List<T> getStatements(Class<T> classStmt) {
+        return (List<T>) constructs.get(CONSTRUCT_TYPES.indexOf(classStmt));
+    }
+
+    /**
+     * Returns the number of constructs of the type passed as input.
+     *
+     * @param classStmt the class stmt
+     * @return int
+     */
+    public int getCount(Class<? extends Node> classStmt) {
+        return counts[CONSTRUCT_TYPES.indexOf(classStmt)];
+    }
+
+    /**
+     * Returns the recursive call found within the body of the method, null otherwise.
+     *
+     * @return method call expr
+     */
+    public MethodCallExpr getRecursiveMethodCall() {
+        return recursiveMethodCall;
+    }
+}
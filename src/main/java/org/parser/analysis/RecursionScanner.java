@@ -0,0 +1,325 @@
+package org.parser.analysis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h1> RecursionScanner </h1>
+ * <p>
+ * This class looks for the candidate recursive methods of a user file by scanning its tokens, without parsing it:
+ * a method is a candidate if its own name is followed by an open parenthesis somewhere inside its body.
+ * Comments, string and character literals are skipped. The scan never misses a method that the analysis
+ * would consider recursive, while it may report methods that are not, so a file without candidates does not need to be parsed at all.
+ * The scan also finds where the body of each method starts and ends, so that the bodies can be left out of the parsing,
+ * and the calls made within the body of every method, identified as in the call graph by their name and their number of arguments.
+ * The arguments and the parameters are counted through the commas outside nested brackets, so a comma in the type arguments
+ * of a call, as in "f(new HashMap&lt;K, V&gt;())", is counted as well: the calls only serve to find the cycles of calls reported
+ * by the diagnostics, while the methods to be converted are checked on the AST.
+ * <p>
+ * The same instance is shared by all the threads of a run and counts the files scanned and the files skipped.
+ */
+public final class RecursionScanner {
+
+    /**
+     * The keywords that can be followed by an open parenthesis and then by a block, without declaring a method.
+     */
+    private static final Set<String> BLOCK_KEYWORDS = new HashSet<>(Arrays.asList(
+            "if", "for", "while", "switch", "synchronized", "catch", "try", "new"));
+
+    private final LongAdder scannedFiles = new LongAdder();
+    private final LongAdder skippedFiles = new LongAdder();
+
+    /**
+     * A method whose body is being scanned, together with its key in the call graph, null for the body of an anonymous class,
+     * the offset of its open brace and the depth of the braces at which its body ends.
+     */
+    private static final class OpenMethod {
+        private final String name;
+        private final String key;
+        private final int start;
+        private final int depth;
+
+        private OpenMethod(String name, String key, int start, int depth) {
+            this.name = name;
+            this.key = key;
+            this.start = start;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Scans the source passed as input, looking for the candidate recursive methods and the bodies of the methods.
+     *
+     * @param source the source
+     * @return source scan
+     */
+    public SourceScan scan(String source) {
+        SourceScan scan = new Scanner(source).scan();
+        scannedFiles.increment();
+        if (!scan.hasCandidates()) {
+            skippedFiles.increment();
+        }
+        return scan;
+    }
+
+    /**
+     * Returns the number of files scanned so far.
+     *
+     * @return long
+     */
+    public long getScannedFiles() {
+        return scannedFiles.sum();
+    }
+
+    /**
+     * Returns the number of files without candidates found so far, which were not parsed.
+     *
+     * @return long
+     */
+    public long getSkippedFiles() {
+        return skippedFiles.sum();
+    }
+
+    /**
+     * Returns a description of the work saved by the scan during the run.
+     *
+     * @return string
+     */
+    public String retrieveScanReport() {
+        long scanned = getScannedFiles();
+        long skipped = getSkippedFiles();
+        return "Recursion pre-scan: " + skipped + " of " + scanned + " files skipped without parsing ("
+                + (scanned == 0 ? 0 : skipped * 100 / scanned) + "%)";
+    }
+
+    /**
+     * The scan of a single source, which reads one token at a time.
+     * The tokens of interest are the identifiers and the separators, every other character is skipped.
+     */
+    private static final class Scanner {
+        private final String source;
+        private final Set<String> candidates = new HashSet<>();
+        private final List<int[]> methodBodies = new ArrayList<>();
+        private final Set<Integer> nestedCandidateBodies = new HashSet<>();
+        private final Map<String, Set<String>> calls = new LinkedHashMap<>();
+        private final Deque<OpenMethod> openMethods = new ArrayDeque<>();
+        private int position;
+        private int depth;
+        private int arguments;
+        private int parameters;
+        private String earlierIdentifier;
+        private String previousIdentifier;
+        private String identifier;
+
+        private Scanner(String source) {
+            this.source = source;
+        }
+
+        /**
+         * Scans the whole source.
+         *
+         * @return source scan
+         */
+        private SourceScan scan() {
+            int token;
+            while ((token = nextToken()) != -1) {
+                if (token == 'a') {
+                    earlierIdentifier = previousIdentifier;
+                    previousIdentifier = identifier;
+                    continue;
+                }
+                if (token == '(' && previousIdentifier != null) {
+                    handleParenthesis(previousIdentifier, "new".equals(earlierIdentifier));
+                } else if (token == '{') {
+                    depth++;
+                } else if (token == '}') {
+                    closeBrace();
+                }
+                earlierIdentifier = null;
+                previousIdentifier = null;
+            }
+            return new SourceScan(candidates, methodBodies, nestedCandidateBodies, calls);
+        }
+
+        /**
+         * Handles an identifier followed by an open parenthesis: either the call of a method or the declaration of a new one.
+         * The call is recorded as made by every enclosing method, unless it creates an object; so is the declaration,
+         * unless it is the body of an anonymous class.
+         *
+         * @param name     the name
+         * @param creation whether the identifier follows the new keyword
+         */
+        private void handleParenthesis(String name, boolean creation) {
+            for (OpenMethod method : openMethods) {
+                if (method.name.equals(name)) {
+                    candidates.add(name);
+                    if (method != openMethods.peekLast()) {
+                        nestedCandidateBodies.add(openMethods.peekLast().start);
+                    }
+                }
+            }
+            if (BLOCK_KEYWORDS.contains(name)) {
+                return;
+            }
+            if (skipToBody()) {
+                String key = creation ? null : CallGraph.retrieveKey(name, parameters);
+                if (key != null) {
+                    calls.putIfAbsent(key, new LinkedHashSet<>());
+                }
+                depth++;
+                openMethods.push(new OpenMethod(name, key, position - 1, depth));
+            } else if (!creation) {
+                String key = CallGraph.retrieveKey(name, arguments);
+                for (OpenMethod method : openMethods) {
+                    if (method.key != null) {
+                        calls.get(method.key).add(key);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Skips the parameters and the throws clause of a method declaration, up to the open brace of its body.
+         * If something else follows the close parenthesis, for example a semicolon or an operator, the parenthesis belongs to a call
+         * or to a method without body: the scan goes back to the token after the parenthesis.
+         * The elements between the parentheses are counted both as the arguments of a call and as the parameters of a declaration,
+         * whose commas within angle brackets separate type arguments.
+         *
+         * @return true if the open brace of a body was reached
+         */
+        private boolean skipToBody() {
+            int start = position;
+            int parentheses = 1;
+            int brackets = 0;
+            int angleBrackets = 0;
+            int token;
+
+            arguments = 0;
+            parameters = 0;
+            while ((token = nextToken()) != -1) {
+                if (token == ')' && --parentheses == 0) {
+                    break;
+                }
+                if (arguments == 0) {
+                    arguments = 1;
+                    parameters = 1;
+                }
+                if (token == '(') {
+                    parentheses++;
+                } else if (token == '{' || token == '[') {
+                    brackets++;
+                } else if (token == '}' || token == ']') {
+                    brackets--;
+                } else if (token == '<') {
+                    angleBrackets++;
+                } else if (token == '>') {
+                    angleBrackets = Math.max(angleBrackets - 1, 0);
+                } else if (token == ',' && parentheses == 1 && brackets == 0) {
+                    arguments++;
+                    if (angleBrackets == 0) {
+                        parameters++;
+                    }
+                }
+            }
+            while ((token = nextToken()) != -1) {
+                if (token == '{') {
+                    return true;
+                }
+                if (token != 'a' && token != '.' && token != ',' && token != '[' && token != ']'
+                        && token != '<' && token != '>' && token != '@') {
+                    break;
+                }
+            }
+            position = start;
+            return false;
+        }
+
+        /**
+         * Handles a close brace, which may end the body of the innermost method being scanned.
+         */
+        private void closeBrace() {
+            if (!openMethods.isEmpty() && openMethods.peek().depth == depth) {
+                OpenMethod method = openMethods.pop();
+                if (openMethods.isEmpty()) {
+                    methodBodies.add(new int[]{method.start, position});
+                }
+            }
+            depth--;
+        }
+
+        /**
+         * Reads the next token: 'a' for an identifier, stored in the identifier field, otherwise the character itself.
+         *
+         * @return the token, -1 at the end of the source
+         */
+        private int nextToken() {
+            while (position < source.length()) {
+                char character = source.charAt(position);
+
+                if (Character.isWhitespace(character)) {
+                    position++;
+                } else if (source.startsWith("//", position)) {
+                    skipLineComment();
+                } else if (source.startsWith("/*", position)) {
+                    int end = source.indexOf("*/", position + 2);
+                    position = end < 0 ? source.length() : end + 2;
+                } else if (character == '"' || character == '\'') {
+                    skipLiteral(character);
+                    return '0';
+                } else if (Character.isJavaIdentifierStart(character)) {
+                    int start = position;
+                    do {
+                        position++;
+                    } while (position < source.length() && Character.isJavaIdentifierPart(source.charAt(position)));
+                    identifier = source.substring(start, position);
+                    return 'a';
+                } else if (Character.isDigit(character)) {
+                    do {
+                        position++;
+                    } while (position < source.length() && (Character.isJavaIdentifierPart(source.charAt(position))
+                            || source.charAt(position) == '.'));
+                    return '0';
+                } else {
+                    position++;
+                    return character;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Skips a comment that ends with the line.
+         */
+        private void skipLineComment() {
+            while (position < source.length() && source.charAt(position) != '\n' && source.charAt(position) != '\r') {
+                position++;
+            }
+        }
+
+        /**
+         * Skips a string or character literal, delimited by the quote passed as input.
+         *
+         * @param quote the quote
+         */
+        private void skipLiteral(char quote) {
+            position++;
+            while (position < source.length()) {
+                char character = source.charAt(position++);
+                if (character == '\\') {
+                    position++;
+                } else if (character == quote || character == '\n' || character == '\r') {
+                    return;
+                }
+            }
+        }
+    }
+}
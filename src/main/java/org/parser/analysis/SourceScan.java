@@ -0,0 +1,85 @@
+package org.parser.analysis;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h1> SourceScan </h1>
+ * <p>
+ * This class contains the outcome of the lexical scan of a user file: the names of the candidate recursive methods
+ * and the offsets of the bodies of the methods that are not nested in the body of another method,
+ * from the open brace included to the close brace excluded, marking those that contain a nested candidate method,
+ * and the calls made by every method declared in the file, including the methods whose body is not parsed.
+ */
+public final class SourceScan {
+    private final Set<String> candidateNames;
+    private final List<int[]> methodBodies;
+    private final Set<Integer> nestedCandidateBodies;
+    private final Map<String, Set<String>> calls;
+
+    /**
+     * Instantiates a new Source scan.
+     *
+     * @param candidateNames        the candidate names
+     * @param methodBodies          the method bodies
+     * @param nestedCandidateBodies the first offset of the method bodies that contain a nested candidate method
+     * @param calls                 the keys of the methods called by every method, by the key of the calling method
+     */
+    SourceScan(Set<String> candidateNames, List<int[]> methodBodies, Set<Integer> nestedCandidateBodies, Map<String, Set<String>> calls) {
+        this.candidateNames = Collections.unmodifiableSet(candidateNames);
+        this.methodBodies = Collections.unmodifiableList(methodBodies);
+        this.nestedCandidateBodies = Collections.unmodifiableSet(nestedCandidateBodies);
+        this.calls = Collections.unmodifiableMap(calls);
+    }
+
+    /**
+     * Checks whether the file contains at least one candidate recursive method.
+     *
+     * @return boolean
+     */
+    public boolean hasCandidates() {
+        return !candidateNames.isEmpty();
+    }
+
+    /**
+     * Returns the names of the candidate recursive methods.
+     *
+     * @return set
+     */
+    public Set<String> getCandidateNames() {
+        return candidateNames;
+    }
+
+    /**
+     * Returns the offsets of the bodies of the methods that are not nested in the body of another method, in the order of the source.
+     * The open brace of each body is at the first offset, the close brace right before the second one.
+     *
+     * @return list
+     */
+    public List<int[]> getMethodBodies() {
+        return methodBodies;
+    }
+
+    /**
+     * Checks whether the method body starting at the offset passed as input contains a candidate method declared inside it,
+     * for example in an anonymous class.
+     *
+     * @param start the start
+     * @return boolean
+     */
+    public boolean containsNestedCandidate(int start) {
+        return nestedCandidateBodies.contains(start);
+    }
+
+    /**
+     * Returns the keys, as in the call graph, of the methods called by every method declared in the file,
+     * by the key of the calling method in the order of the source. A call within a nested method is made by all its enclosing methods.
+     *
+     * @return map
+     */
+    public Map<String, Set<String>> getCalls() {
+        return calls;
+    }
+}
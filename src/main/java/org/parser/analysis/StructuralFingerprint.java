@@ -0,0 +1,205 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.ArrayAccessExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.stmt.BreakStmt;
+import com.github.javaparser.ast.stmt.ContinueStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h1> StructuralFingerprint </h1>
+ * <p>
+ * This class summarizes the skeleton of a method in a bit vector and a hash, abstracting away the names of its variables.
+ * The fingerprint only contains what the detailed comparison requires to be equal in both methods:
+ * the number of constructs compared by compareSizeLists, the operators and the shape of the If and While conditions,
+ * and the shape of the arguments of the recursive call. Two methods with different fingerprints can therefore be rejected
+ * before any detailed comparison, while two methods with the same fingerprint still go through all the checks.
+ */
+public final class StructuralFingerprint {
+    private static final DataKey<StructuralFingerprint> STRUCTURAL_FINGERPRINT = new DataKey<StructuralFingerprint>() {
+    };
+
+    /**
+     * The constructs whose number must be the same in both methods, see compareSizeLists.
+     */
+    private static final List<Class<? extends Node>> COUNTED_TYPES = Collections.unmodifiableList(Arrays.asList(
+            IfStmt.class, ForStmt.class, ForEachStmt.class, WhileStmt.class, SwitchStmt.class, BreakStmt.class, ContinueStmt.class));
+
+    private static final int OPERATOR_BITS = COUNTED_TYPES.size();
+    private static final int LOGICAL_CONDITION_BIT = OPERATOR_BITS + BinaryExpr.Operator.values().length;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private final long mask;
+    private final long hash;
+
+    /**
+     * Instantiates a new Structural fingerprint.
+     *
+     * @param mask the mask
+     * @param hash the hash
+     */
+    private StructuralFingerprint(long mask, long hash) {
+        this.mask = mask;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the fingerprint of the method passed as input, computing it the first time it is requested.
+     *
+     * @param method the method
+     * @return structural fingerprint
+     */
+    public static StructuralFingerprint of(MethodDeclaration method) {
+        if (method.containsData(STRUCTURAL_FINGERPRINT)) {
+            return method.getData(STRUCTURAL_FINGERPRINT);
+        }
+        StructuralFingerprint fingerprint = create(MethodProfile.of(method));
+        method.setData(STRUCTURAL_FINGERPRINT, fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * Discards the fingerprint of the method passed as input, which must be called whenever the method is modified.
+     *
+     * @param method the method
+     */
+    public static void invalidate(MethodDeclaration method) {
+        method.removeData(STRUCTURAL_FINGERPRINT);
+    }
+
+    /**
+     * Computes the fingerprint from the profile of a method.
+     *
+     * @param profile the profile
+     * @return structural fingerprint
+     */
+    private static StructuralFingerprint create(MethodProfile profile) {
+        long[] state = {0L, FNV_OFFSET};
+
+        for (int i = 0; i < COUNTED_TYPES.size(); i++) {
+            int count = profile.getCount(COUNTED_TYPES.get(i));
+            if (count > 0) {
+                state[0] |= 1L << i;
+            }
+            state[1] = mix(state[1], count);
+        }
+
+        for (IfStmt ifStmt : profile.getStatements(IfStmt.class)) {
+            addCondition(state, ifStmt.getCondition());
+        }
+        for (WhileStmt whileStmt : profile.getStatements(WhileStmt.class)) {
+            addCondition(state, whileStmt.getCondition());
+        }
+
+        MethodCallExpr recursiveCall = profile.getRecursiveMethodCall();
+        state[1] = mix(state[1], recursiveCall == null ? -1 : recursiveCall.getArguments().size());
+        if (recursiveCall != null) {
+            for (Expression argument : recursiveCall.getArguments()) {
+                state[1] = mix(state[1], shape(argument));
+            }
+        }
+        return new StructuralFingerprint(state[0], state[1]);
+    }
+
+    /**
+     * Adds a condition to the fingerprint. Conditions with logical operators only contribute the number of their operators,
+     * since it is enough that one of their single conditions matches; the others contribute their whole shape.
+     *
+     * @param state     the state
+     * @param condition the condition
+     */
+    private static void addCondition(long[] state, Expression condition) {
+        int countAND = AnalysisMethod.countLogicalOperators(condition, BinaryExpr.Operator.AND);
+        int countOR = AnalysisMethod.countLogicalOperators(condition, BinaryExpr.Operator.OR);
+
+        if (countAND != 0 || countOR != 0) {
+            state[0] |= 1L << LOGICAL_CONDITION_BIT;
+            state[1] = mix(mix(mix(state[1], LOGICAL_CONDITION_BIT), countAND), countOR);
+            return;
+        }
+        if (condition.isBinaryExpr()) {
+            state[0] |= 1L << (OPERATOR_BITS + condition.asBinaryExpr().getOperator().ordinal());
+        }
+        state[1] = mix(state[1], shape(condition));
+    }
+
+    /**
+     * Returns the hash of the parts of an expression that compareElementContent requires to be equal.
+     * Names of parameters and local variables are abstracted away, while the values compared literally are hashed as they are.
+     *
+     * @param expression the expression
+     * @return long
+     */
+    private static long shape(Expression expression) {
+        long result = mix(FNV_OFFSET, expression.getClass().getName().hashCode());
+
+        if (expression.isBinaryExpr()) {
+            BinaryExpr binary = expression.asBinaryExpr();
+            return mix(mix(mix(result, binary.getOperator().ordinal()), shape(binary.getLeft())), shape(binary.getRight()));
+        }
+        if (expression.isNameExpr()) {
+            return result;
+        }
+        if (expression.isArrayAccessExpr()) {
+            ArrayAccessExpr access = expression.asArrayAccessExpr();
+            return mix(mix(result, elementShape(access.getName())), shape(access.getIndex()));
+        }
+        if (expression.isFieldAccessExpr()) {
+            FieldAccessExpr access = expression.asFieldAccessExpr();
+            return mix(result, elementShape(access.getScope()));
+        }
+        if (expression.isMethodCallExpr()) {
+            MethodCallExpr call = expression.asMethodCallExpr();
+            result = mix(mix(result, call.getNameAsString().hashCode()), call.getArguments().size());
+            return mix(result, call.getScope().map(StructuralFingerprint::shape).orElse(0L));
+        }
+        return mix(result, expression.hashCode());
+    }
+
+    /**
+     * Returns the hash of an element compared as a variable: any name, or a value that must be equal.
+     *
+     * @param expression the expression
+     * @return long
+     */
+    private static long elementShape(Expression expression) {
+        return expression.isNameExpr() ? 1L : mix(FNV_OFFSET, expression.hashCode());
+    }
+
+    /**
+     * Adds a value to the hash passed as input.
+     *
+     * @param hash  the hash
+     * @param value the value
+     * @return long
+     */
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    /**
+     * Checks whether the method with this fingerprint can match the one with the fingerprint passed as input.
+     * The bit vectors are compared first, and only if they are equal the hashes are compared.
+     *
+     * @param other the other
+     * @return boolean
+     */
+    public boolean isCompatible(StructuralFingerprint other) {
+        return mask == other.mask && hash == other.hash;
+    }
+}
@@ -0,0 +1,111 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.type.Type;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <h1> SymbolTable </h1>
+ * <p>
+ * This class resolves the names used inside a method: formal parameters and local variables.
+ * It is built once per method, with a single traversal of its body, and stored in the method itself,
+ * so that every analyzer resolves a name with a lookup instead of searching the whole method again.
+ * <p>
+ * The tables of the catalog methods are built while the catalog is loaded and then only read, while the tables of the user methods
+ * are built by the thread converting their file.
+ */
+public final class SymbolTable {
+    private static final DataKey<SymbolTable> SYMBOL_TABLE = new DataKey<SymbolTable>() {
+    };
+
+    private final Map<String, Integer> parameterIndexes;
+    private final Map<String, VariableDeclarator> variables;
+    private final Map<String, Type> declarationTypes;
+
+    /**
+     * Instantiates a new Symbol table.
+     *
+     * @param method the method
+     */
+    private SymbolTable(MethodDeclaration method) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            indexes.putIfAbsent(method.getParameter(i).getNameAsString(), i);
+        }
+
+        Map<String, VariableDeclarator> declarators = new HashMap<>();
+        Map<String, Type> types = new HashMap<>();
+        method.getBody().ifPresent(body -> body.walk(node -> {
+            if (node instanceof VariableDeclarator) {
+                declarators.putIfAbsent(((VariableDeclarator) node).getNameAsString(), (VariableDeclarator) node);
+            } else if (node instanceof VariableDeclarationExpr) {
+                VariableDeclarator first = ((VariableDeclarationExpr) node).getVariable(0);
+                types.putIfAbsent(first.getNameAsString(), first.getType());
+            }
+        }));
+
+        this.parameterIndexes = Collections.unmodifiableMap(indexes);
+        this.variables = Collections.unmodifiableMap(declarators);
+        this.declarationTypes = Collections.unmodifiableMap(types);
+    }
+
+    /**
+     * Returns the symbol table of the method passed as input, building it the first time it is requested.
+     *
+     * @param method the method
+     * @return symbol table
+     */
+    public static SymbolTable of(MethodDeclaration method) {
+        if (method.containsData(SYMBOL_TABLE)) {
+            return method.getData(SYMBOL_TABLE);
+        }
+        SymbolTable table = new SymbolTable(method);
+        method.setData(SYMBOL_TABLE, table);
+        return table;
+    }
+
+    /**
+     * Discards the symbol table of the method passed as input, which must be called whenever the method is modified.
+     *
+     * @param method the method
+     */
+    public static void invalidate(MethodDeclaration method) {
+        method.removeData(SYMBOL_TABLE);
+    }
+
+    /**
+     * Returns the index of the formal parameter whose name is passed as input, -1 if there is no such parameter.
+     *
+     * @param name the name
+     * @return int
+     */
+    public int getParameterIndex(String name) {
+        return name == null ? -1 : parameterIndexes.getOrDefault(name, -1);
+    }
+
+    /**
+     * Returns the first declaration of the local variable whose name is passed as input, null if there is no such variable.
+     *
+     * @param name the name
+     * @return variable declarator
+     */
+    public VariableDeclarator findVariable(String name) {
+        return name == null ? null : variables.get(name);
+    }
+
+    /**
+     * Returns the type of the first local declaration whose first variable has the name passed as input, null if there is no such declaration.
+     *
+     * @param name the name
+     * @return type
+     */
+    public Type findDeclarationType(String name) {
+        return name == null ? null : declarationTypes.get(name);
+    }
+}
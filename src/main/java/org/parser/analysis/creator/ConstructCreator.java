@@ -6,10 +6,14 @@ import org.parser.analysis.AnalysisMethod;
  * <h1> ConstructCreator </h1>
  * <p>
  * This interface provides a method for creating child instances of the parent class AnalysisMethod.
+ * Its implementations are registered as services in "META-INF/services/org.parser.analysis.creator.ConstructCreator"
+ * and must have a public constructor without arguments.
  */
 public interface ConstructCreator {
     /**
      * This method returns an instance of the AnalysisMethod class.
+     * It is called only once per process, and the instance returned is shared by all the threads,
+     * so it must not keep any state of the comparisons.
      *
      * @return analysisMethod construct
      */
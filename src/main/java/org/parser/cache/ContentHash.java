@@ -0,0 +1,63 @@
+package org.parser.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * <h1> ContentHash </h1>
+ * <p>
+ * This class computes the SHA-256 hash of a sequence of values, returned as a hexadecimal string.
+ * Each value is followed by a separator, so that different sequences of values never produce the same input for the digest.
+ */
+public final class ContentHash {
+    private static final byte SEPARATOR = 0;
+
+    private final MessageDigest digest;
+
+    /**
+     * Instantiates a new Content hash.
+     */
+    public ContentHash() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Adds the string passed as input to the hash.
+     *
+     * @param value the value
+     * @return content hash
+     */
+    public ContentHash add(String value) {
+        return add(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds the bytes passed as input to the hash.
+     *
+     * @param value the value
+     * @return content hash
+     */
+    public ContentHash add(byte[] value) {
+        digest.update(value);
+        digest.update(SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Returns the hash of all the values added so far, as a hexadecimal string.
+     *
+     * @return string
+     */
+    public String toHex() {
+        StringBuilder builder = new StringBuilder();
+        for (byte element : digest.digest()) {
+            builder.append(Character.forDigit((element >> 4) & 0xF, 16)).append(Character.forDigit(element & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,241 @@
+package org.parser.cache;
+
+import org.parser.App;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.config.RunConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <h1> ResultCache </h1>
+ * <p>
+ * This class stores on disk the converted source of every user file, so that an unchanged file is neither parsed nor analyzed again.
+ * The key of a file is the hash of its content, of the version of the catalog, of the version of the program and of the output mode:
+ * changing any of them produces a new key, so an entry never has to be invalidated and stale entries are simply never read again.
+ * If the version of the program cannot be determined, the cache is disabled, since an entry could otherwise outlive the code that produced it.
+ * <p>
+ * The cache is only an optimization: an entry that cannot be read or written is treated as missing.
+ */
+public final class ResultCache {
+    private static final String ENTRY_EXTENSION = ".out";
+
+    private final Path directory;
+    private final String versionKey;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Instantiates a new Result cache.
+     *
+     * @param directory  the directory, null if the cache is disabled
+     * @param versionKey the version key
+     */
+    private ResultCache(Path directory, String versionKey) {
+        this.directory = directory;
+        this.versionKey = versionKey;
+    }
+
+    /**
+     * Creates the cache stored in the directory passed as input, for the catalog and the output mode passed as input.
+     * The cache is disabled if the version of the program cannot be determined.
+     *
+     * @param directory  the directory
+     * @param catalog    the catalog
+     * @param outputMode the output mode
+     * @return result cache
+     */
+    public static ResultCache create(String directory, AlgorithmCatalog catalog, RunConfiguration.OutputMode outputMode) {
+        Optional<String> toolVersion = retrieveToolVersion();
+        if (!toolVersion.isPresent()) {
+            return disabled();
+        }
+        return new ResultCache(Paths.get(directory), new ContentHash()
+                .add(toolVersion.get())
+                .add(catalog.getVersion())
+                .add(outputMode.name())
+                .toHex());
+    }
+
+    /**
+     * Creates a cache that never contains any entry.
+     *
+     * @return result cache
+     */
+    public static ResultCache disabled() {
+        return new ResultCache(null, "");
+    }
+
+    /**
+     * Returns the version of the program: the hash of the implementation version written in the manifest of the jar,
+     * of the names of the entries of the class path, which carry the versions of the libraries, and of the content of the program,
+     * that is the jar or, when the program runs from a folder of classes, every file of that folder.
+     * Any change of the code therefore changes the version, even without a new release.
+     *
+     * @return the version, empty if the program cannot be read
+     */
+    static Optional<String> retrieveToolVersion() {
+        try {
+            CodeSource codeSource = App.class.getProtectionDomain().getCodeSource();
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            ContentHash hash = new ContentHash()
+                    .add(Optional.ofNullable(App.class.getPackage().getImplementationVersion()).orElse("development"))
+                    .add(retrieveClassPathNames());
+
+            if (Files.isDirectory(location)) {
+                for (Path file : retrieveClassFiles(location)) {
+                    hash.add(location.relativize(file).toString()).add(Files.readAllBytes(file));
+                }
+            } else {
+                hash.add(Files.readAllBytes(location));
+            }
+            return Optional.of(hash.toHex());
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the names of the entries of the class path, separated by the path separator.
+     *
+     * @return string
+     */
+    private static String retrieveClassPathNames() {
+        return Stream.of(System.getProperty("java.class.path", "").split(File.pathSeparator))
+                .map(entry -> new File(entry).getName())
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    /**
+     * Returns the regular files within the folder of classes passed as input, sorted by path.
+     *
+     * @param directory the directory
+     * @return list
+     * @throws IOException the io exception
+     */
+    private static List<Path> retrieveClassFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Checks whether the cache is enabled.
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Returns the key of the user file whose content is passed as input.
+     *
+     * @param source the source
+     * @return string
+     */
+    public String retrieveKey(String source) {
+        return new ContentHash().add(versionKey).add(source).toHex();
+    }
+
+    /**
+     * Returns the converted source stored with the key passed as input, if any.
+     *
+     * @param key the key
+     * @return optional
+     */
+    public Optional<String> retrieve(String key) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        Path entry = directory.resolve(key + ENTRY_EXTENSION);
+        if (Files.isRegularFile(entry)) {
+            try {
+                String source = new String(Files.readAllBytes(entry), StandardCharsets.UTF_8);
+                hits.increment();
+                return Optional.of(source);
+            } catch (IOException e) {
+                // An unreadable entry is treated as missing.
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores the converted source passed as input with the key passed as input.
+     * The entry is written to a temporary file and then renamed, so that a concurrent reader never sees a partial entry.
+     *
+     * @param key    the key
+     * @param source the source
+     */
+    public void store(String key, String source) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temporary, source.getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, directory.resolve(key + ENTRY_EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteTemporaryFile(temporary);
+        }
+    }
+
+    /**
+     * Deletes the temporary file of an entry that could not be stored, which will simply be missing in the next run.
+     *
+     * @param temporary the temporary
+     */
+    private static void deleteTemporaryFile(Path temporary) {
+        try {
+            if (temporary != null) {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            // Nothing else can be done: the file is only a leftover of the cache.
+        }
+    }
+
+    /**
+     * Returns the number of files whose converted source was found in the cache.
+     *
+     * @return long
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of files whose converted source was not found in the cache.
+     *
+     * @return long
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns a description of the work saved by the cache.
+     *
+     * @return string
+     */
+    public String retrieveCacheReport() {
+        return "Result cache: " + getHits() + " of " + (getHits() + getMisses()) + " files reused";
+    }
+}
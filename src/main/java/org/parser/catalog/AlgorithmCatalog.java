@@ -0,0 +1,205 @@
+package org.parser.catalog;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.parser.cache.ContentHash;
+import org.parser.error.ErrorCode;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.parser.error.ErrorCode.generateErrorException;
+import static org.parser.file.FileParserUtils.retrieveAlgorithmsToExaminedList;
+
+/**
+ * <h1> AlgorithmCatalog </h1>
+ * <p>
+ * This class contains all the algorithms made available by the application.
+ * The "algorithms" directory is walked only once, when the catalog is loaded, and each pair of recursive and iterative methods
+ * is parsed in parallel. The catalog is read-only after loading, so it can be shared by every comparison of the process.
+ * The entries are also indexed by signature key, so a user method only meets the algorithms having its same header.
+ * The version of the catalog is the hash of all the files of the algorithms, so it changes whenever an algorithm is added, removed or edited.
+ */
+public final class AlgorithmCatalog {
+    private final List<AlgorithmEntry> entries;
+    private final Map<SignatureKey, List<AlgorithmEntry>> signatureIndex;
+    private final String version;
+
+    /**
+     * Instantiates a new Algorithm catalog.
+     *
+     * @param entries the entries
+     * @param version the version
+     */
+    private AlgorithmCatalog(List<AlgorithmEntry> entries, String version) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.signatureIndex = createSignatureIndex(entries);
+        this.version = version;
+    }
+
+    /**
+     * Groups the entries passed as input by signature key, keeping the order of the catalog within each group.
+     *
+     * @param entries the entries
+     * @return map
+     */
+    private static Map<SignatureKey, List<AlgorithmEntry>> createSignatureIndex(List<AlgorithmEntry> entries) {
+        Map<SignatureKey, List<AlgorithmEntry>> index = new HashMap<>();
+        for (AlgorithmEntry entry : entries) {
+            index.computeIfAbsent(entry.getSignatureKey(), key -> new ArrayList<>()).add(entry);
+        }
+        index.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Walks the "algorithms" directory and parses all the algorithms found in it.
+     *
+     * @return algorithm catalog
+     * @throws ErrorException the error exception
+     */
+    public static AlgorithmCatalog load() throws ErrorException {
+        return load(retrieveAlgorithmsToExaminedList());
+    }
+
+    /**
+     * Walks the algorithms directory passed as input and parses all the algorithms found in it.
+     *
+     * @param directory the directory
+     * @return algorithm catalog
+     * @throws ErrorException the error exception
+     */
+    public static AlgorithmCatalog load(File directory) throws ErrorException {
+        return load(directory.listFiles());
+    }
+
+    /**
+     * Parses all the algorithms contained in the directories passed as input.
+     *
+     * @param algorithmDirectories the algorithm directories
+     * @return algorithm catalog
+     * @throws ErrorException the error exception
+     */
+    private static AlgorithmCatalog load(File[] algorithmDirectories) throws ErrorException {
+        List<File> directories = new ArrayList<>(Arrays.asList(algorithmDirectories));
+        directories.sort(Comparator.comparing(File::getName));
+
+        List<Callable<AlgorithmEntry>> tasks = new ArrayList<>();
+        for (File directory : directories) {
+            tasks.add(() -> AlgorithmEntry.create(directory));
+        }
+
+        List<AlgorithmEntry> entries = new ArrayList<>();
+        for (Future<AlgorithmEntry> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            entries.add(retrieveEntry(future));
+        }
+        return new AlgorithmCatalog(entries, retrieveVersion(entries));
+    }
+
+    /**
+     * Returns the hash of the names and contents of all the files of the entries passed as input.
+     *
+     * @param entries the entries
+     * @return string
+     * @throws ErrorException the error exception
+     */
+    private static String retrieveVersion(List<AlgorithmEntry> entries) throws ErrorException {
+        ContentHash hash = new ContentHash();
+        for (AlgorithmEntry entry : entries) {
+            List<File> files = new ArrayList<>(entry.getFiles());
+            files.sort(Comparator.comparing(File::getName));
+
+            hash.add(entry.getName());
+            for (File file : files) {
+                hash.add(file.getName()).add(retrieveContent(file));
+            }
+        }
+        return hash.toHex();
+    }
+
+    /**
+     * Returns the content of the algorithm file passed as input.
+     *
+     * @param file the file
+     * @return byte [ ]
+     * @throws ErrorException the error exception
+     */
+    private static byte[] retrieveContent(File file) throws ErrorException {
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw generateErrorException(ErrorCode.BAD_READING_FILE);
+        }
+    }
+
+    /**
+     * Waits for the parsing of a single algorithm and returns its entry, propagating the parsing errors.
+     *
+     * @param future the future
+     * @return algorithm entry
+     * @throws ErrorException the error exception
+     */
+    private static AlgorithmEntry retrieveEntry(Future<AlgorithmEntry> future) throws ErrorException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ErrorException) {
+                throw (ErrorException) e.getCause();
+            }
+            throw generateErrorException(ErrorCode.TROUBLE_PARSING_FILE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw generateErrorException(ErrorCode.TROUBLE_PARSING_FILE);
+        }
+    }
+
+    /**
+     * Returns all the algorithms of the catalog, sorted by name.
+     *
+     * @return list
+     */
+    public List<AlgorithmEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the version of the catalog, that is the hash of the files of all its algorithms.
+     *
+     * @return string
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the algorithms whose recursive version has the same signature key of the method passed as input.
+     *
+     * @param method the method
+     * @return list
+     */
+    public List<AlgorithmEntry> findCandidates(MethodDeclaration method) {
+        return findCandidates(SignatureKey.of(method));
+    }
+
+    /**
+     * Returns the algorithms whose recursive version has the signature key passed as input.
+     *
+     * @param key the key
+     * @return list
+     */
+    public List<AlgorithmEntry> findCandidates(SignatureKey key) {
+        return signatureIndex.getOrDefault(key, Collections.emptyList());
+    }
+}
@@ -0,0 +1,115 @@
+package org.parser.catalog;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.parser.analysis.IterativeTemplate;
+import org.parser.analysis.MethodProfile;
+import org.parser.analysis.StructuralFingerprint;
+import org.parser.analysis.SymbolTable;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.parser.analysis.AnalysisIterativeMethod.retrieveIterativeFile;
+import static org.parser.analysis.AnalysisRecursiveMethod.retrieveRecursiveFile;
+import static org.parser.file.FileParserUtils.retrieveCompilationUnitRecursiveMethod;
+
+/**
+ * <h1> AlgorithmEntry </h1>
+ * <p>
+ * This class represents a single algorithm made available by the application,
+ * that is the pair of recursive and iterative methods contained in one directory of "algorithms".
+ * The methods are parsed only once and must never be modified, since the same instances are shared by all comparisons.
+ * For the same reason, the symbol table, the profile and the fingerprint of the recursive method,
+ * as well as the template of the iterative method, are built here, before the entry is published to the other threads.
+ */
+public final class AlgorithmEntry {
+    private final String name;
+    private final List<File> files;
+    private final MethodDeclaration recursiveMethod;
+    private final MethodDeclaration iterativeMethod;
+    private final SignatureKey signatureKey;
+
+    /**
+     * Instantiates a new Algorithm entry.
+     *
+     * @param name            the name
+     * @param files           the files
+     * @param recursiveMethod the recursive method
+     * @param iterativeMethod the iterative method
+     */
+    private AlgorithmEntry(String name, List<File> files, MethodDeclaration recursiveMethod, MethodDeclaration iterativeMethod) {
+        this.name = name;
+        this.files = files;
+        this.recursiveMethod = recursiveMethod;
+        this.iterativeMethod = iterativeMethod;
+        this.signatureKey = SignatureKey.of(recursiveMethod);
+        SymbolTable.of(recursiveMethod);
+        MethodProfile.of(recursiveMethod);
+        StructuralFingerprint.of(recursiveMethod);
+        IterativeTemplate.of(iterativeMethod);
+    }
+
+    /**
+     * Parses the recursive and the iterative version of the algorithm contained in the directory passed as input.
+     *
+     * @param directory the directory
+     * @return algorithm entry
+     * @throws ErrorException the error exception
+     */
+    static AlgorithmEntry create(File directory) throws ErrorException {
+        List<File> files = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(directory.listFiles())));
+
+        return new AlgorithmEntry(directory.getName(), files,
+                retrieveCompilationUnitRecursiveMethod(retrieveRecursiveFile(files)),
+                retrieveCompilationUnitRecursiveMethod(retrieveIterativeFile(files)));
+    }
+
+    /**
+     * Returns the name of the algorithm, that is the name of its directory.
+     *
+     * @return string
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the files contained in the directory of the algorithm.
+     *
+     * @return list
+     */
+    public List<File> getFiles() {
+        return files;
+    }
+
+    /**
+     * Returns the recursive version of the algorithm.
+     *
+     * @return method declaration
+     */
+    public MethodDeclaration getRecursiveMethod() {
+        return recursiveMethod;
+    }
+
+    /**
+     * Returns the iterative version of the algorithm.
+     *
+     * @return method declaration
+     */
+    public MethodDeclaration getIterativeMethod() {
+        return iterativeMethod;
+    }
+
+    /**
+     * Returns the signature key of the recursive version of the algorithm, computed once when the entry is created.
+     *
+     * @return signature key
+     */
+    public SignatureKey getSignatureKey() {
+        return signatureKey;
+    }
+}
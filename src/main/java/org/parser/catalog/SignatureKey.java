@@ -0,0 +1,88 @@
+package org.parser.catalog;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.type.Type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h1> SignatureKey </h1>
+ * <p>
+ * This class represents the header of a method as a hash key, made up of the return type and the ordered list of parameter types.
+ * Two methods that satisfy checkMethodSignature always have the same key, so the key can be used to select
+ * the only algorithms of the catalog worth comparing with a user method.
+ */
+public final class SignatureKey {
+    private final String returnType;
+    private final List<String> parameterTypes;
+    private final int hash;
+
+    /**
+     * Instantiates a new Signature key.
+     *
+     * @param returnType     the return type
+     * @param parameterTypes the parameter types
+     */
+    private SignatureKey(String returnType, List<String> parameterTypes) {
+        this.returnType = returnType;
+        this.parameterTypes = Collections.unmodifiableList(parameterTypes);
+        this.hash = Objects.hash(returnType, parameterTypes);
+    }
+
+    /**
+     * Returns the key of the method passed as input.
+     *
+     * @param method the method
+     * @return signature key
+     */
+    public static SignatureKey of(MethodDeclaration method) {
+        List<String> parameterTypes = new ArrayList<>();
+        for (Type type : method.getSignature().getParameterTypes()) {
+            parameterTypes.add(type.asString());
+        }
+        return new SignatureKey(method.getType().asString(), parameterTypes);
+    }
+
+    /**
+     * Returns the return type of the method.
+     *
+     * @return string
+     */
+    public String getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * Returns the ordered list of the parameter types of the method.
+     *
+     * @return list
+     */
+    public List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SignatureKey)) {
+            return false;
+        }
+        SignatureKey that = (SignatureKey) o;
+        return hash == that.hash && returnType.equals(that.returnType) && parameterTypes.equals(that.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return returnType + " (" + String.join(", ", parameterTypes) + ")";
+    }
+}
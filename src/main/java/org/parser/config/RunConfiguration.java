@@ -0,0 +1,237 @@
+package org.parser.config;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h1> RunConfiguration </h1>
+ * <p>
+ * It contains the options of a single execution of the program, read from the system properties
+ * (for example: java -Dparser.threads=8 -Dparser.executor=fixed -Dparser.cache=false -Dparser.output=minimal -Dparser.diagnostics=count -jar ...).
+ * Any missing or malformed property falls back to its default value.
+ */
+@Getter
+public final class RunConfiguration {
+
+    /**
+     * The kind of executor used to process the user files.
+     */
+    public enum ExecutorKind {
+        /**
+         * A work-stealing fork-join pool.
+         */
+        FORK_JOIN,
+        /**
+         * A pool with a fixed number of threads.
+         */
+        FIXED
+    }
+
+    /**
+     * The way the converted user files are written.
+     */
+    public enum OutputMode {
+        /**
+         * The whole file is printed again.
+         */
+        FULL,
+        /**
+         * Only the replaced methods are printed again, the rest of the original text is kept, and unchanged files are not written.
+         */
+        MINIMAL,
+        /**
+         * No file is written: a single patch collects the unified diffs of the minimal changes of all the files.
+         */
+        PATCH
+    }
+
+    /**
+     * The way the diagnostic events of the analysis are reported.
+     */
+    public enum DiagnosticLevel {
+        /**
+         * Every event is printed.
+         */
+        PRINT,
+        /**
+         * The events are only counted, and the number of events of every reason is printed at the end of the run.
+         */
+        COUNT,
+        /**
+         * The events are ignored.
+         */
+        OFF
+    }
+
+    private final ExecutorKind executorKind;
+    private final int threads;
+    private final boolean cacheEnabled;
+    private final List<String> includePatterns;
+    private final List<String> excludePatterns;
+    private final Charset charset;
+    private final OutputMode outputMode;
+    private final int writerQueueCapacity;
+    private final boolean fsync;
+    private final DiagnosticLevel diagnosticLevel;
+
+    /**
+     * Instantiates a new Run configuration.
+     *
+     * @param executorKind    the executor kind
+     * @param threads         the threads
+     * @param cacheEnabled    the cache enabled
+     * @param includePatterns the include patterns
+     * @param excludePatterns the exclude patterns
+     * @param charset         the charset
+     * @param outputMode          the output mode
+     * @param writerQueueCapacity the writer queue capacity
+     * @param fsync               the fsync
+     * @param diagnosticLevel     the diagnostic level
+     */
+    private RunConfiguration(ExecutorKind executorKind, int threads, boolean cacheEnabled,
+                             List<String> includePatterns, List<String> excludePatterns, Charset charset, OutputMode outputMode,
+                             int writerQueueCapacity, boolean fsync, DiagnosticLevel diagnosticLevel) {
+        this.executorKind = executorKind;
+        this.threads = threads;
+        this.cacheEnabled = cacheEnabled;
+        this.includePatterns = includePatterns;
+        this.excludePatterns = excludePatterns;
+        this.charset = charset;
+        this.outputMode = outputMode;
+        this.writerQueueCapacity = writerQueueCapacity;
+        this.fsync = fsync;
+        this.diagnosticLevel = diagnosticLevel;
+    }
+
+    /**
+     * Returns the configuration described by the system properties.
+     *
+     * @return run configuration
+     */
+    public static RunConfiguration fromSystemProperties() {
+        return new RunConfiguration(
+                retrieveExecutorKind(System.getProperty("parser.executor")),
+                retrievePositiveInteger(System.getProperty("parser.threads"), Runtime.getRuntime().availableProcessors()),
+                retrieveBoolean(System.getProperty("parser.cache"), true),
+                retrievePatterns(System.getProperty("parser.include", "**/*.java")),
+                retrievePatterns(System.getProperty("parser.exclude")),
+                retrieveCharset(System.getProperty("parser.charset")),
+                retrieveOutputMode(System.getProperty("parser.output")),
+                retrievePositiveInteger(System.getProperty("parser.writer.queue"), 64),
+                retrieveBoolean(System.getProperty("parser.fsync"), false),
+                retrieveDiagnosticLevel(System.getProperty("parser.diagnostics")));
+    }
+
+    /**
+     * Returns the kind of executor whose name is passed as input, the fork-join one if the name is not recognized.
+     *
+     * @param value the value
+     * @return executor kind
+     */
+    private static ExecutorKind retrieveExecutorKind(String value) {
+        if (StringUtils.equalsIgnoreCase(StringUtils.trim(value), "fixed")) {
+            return ExecutorKind.FIXED;
+        }
+        return ExecutorKind.FORK_JOIN;
+    }
+
+    /**
+     * Returns the output mode whose name is passed as input, the full one if the name is not recognized.
+     *
+     * @param value the value
+     * @return output mode
+     */
+    private static OutputMode retrieveOutputMode(String value) {
+        for (OutputMode outputMode : OutputMode.values()) {
+            if (StringUtils.equalsIgnoreCase(StringUtils.trim(value), outputMode.name())) {
+                return outputMode;
+            }
+        }
+        return OutputMode.FULL;
+    }
+
+    /**
+     * Returns the diagnostic level whose name is passed as input, the printing one if the name is not recognized.
+     *
+     * @param value the value
+     * @return diagnostic level
+     */
+    private static DiagnosticLevel retrieveDiagnosticLevel(String value) {
+        for (DiagnosticLevel diagnosticLevel : DiagnosticLevel.values()) {
+            if (StringUtils.equalsIgnoreCase(StringUtils.trim(value), diagnosticLevel.name())) {
+                return diagnosticLevel;
+            }
+        }
+        return DiagnosticLevel.PRINT;
+    }
+
+    /**
+     * Returns the positive integer contained in the string passed as input, the default value otherwise.
+     *
+     * @param value        the value
+     * @param defaultValue the default value
+     * @return int
+     */
+    private static int retrievePositiveInteger(String value, int defaultValue) {
+        try {
+            int result = Integer.parseInt(StringUtils.trim(value));
+            return result > 0 ? result : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns the charset whose name is passed as input, UTF-8 if the name is missing or not supported.
+     *
+     * @param value the value
+     * @return charset
+     */
+    private static Charset retrieveCharset(String value) {
+        try {
+            return Charset.forName(StringUtils.trim(value));
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * Returns the comma-separated patterns contained in the string passed as input, an empty list if there are none.
+     *
+     * @param value the value
+     * @return list
+     */
+    private static List<String> retrievePatterns(String value) {
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : StringUtils.split(StringUtils.defaultString(value), ',')) {
+            if (StringUtils.isNotBlank(pattern)) {
+                patterns.add(pattern.trim());
+            }
+        }
+        return Collections.unmodifiableList(patterns);
+    }
+
+    /**
+     * Returns the boolean contained in the string passed as input ("true" or "false"), the default value otherwise.
+     *
+     * @param value        the value
+     * @param defaultValue the default value
+     * @return boolean
+     */
+    private static boolean retrieveBoolean(String value, boolean defaultValue) {
+        String trimmed = StringUtils.trim(value);
+        if (StringUtils.equalsIgnoreCase(trimmed, "true")) {
+            return true;
+        }
+        if (StringUtils.equalsIgnoreCase(trimmed, "false")) {
+            return false;
+        }
+        return defaultValue;
+    }
+}
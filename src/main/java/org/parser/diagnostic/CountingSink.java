@@ -0,0 +1,52 @@
+package org.parser.diagnostic;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * <h1> CountingSink </h1>
+ * <p>
+ * It counts the events of every reason instead of printing them, so their details are never turned into text.
+ */
+public final class CountingSink implements DiagnosticSink {
+    private final LongAdder[] counts = new LongAdder[DiagnosticReason.values().length];
+
+    /**
+     * Instantiates a new Counting sink.
+     */
+    public CountingSink() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void accept(DiagnosticReason reason, Object... details) {
+        counts[reason.ordinal()].increment();
+    }
+
+    /**
+     * Returns the number of events reported so far with the reason passed as input.
+     *
+     * @param reason the reason
+     * @return long
+     */
+    public long getCount(DiagnosticReason reason) {
+        return counts[reason.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of events of every reason reported at least once, from the most frequent one.
+     *
+     * @return string
+     */
+    public String retrieveCountingReport() {
+        return "Diagnostics: " + Arrays.stream(DiagnosticReason.values())
+                .filter(reason -> getCount(reason) > 0)
+                .sorted(Comparator.comparingLong(this::getCount).reversed())
+                .map(reason -> reason + "=" + getCount(reason))
+                .collect(Collectors.joining(", "));
+    }
+}
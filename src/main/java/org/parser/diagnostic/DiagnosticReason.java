@@ -0,0 +1,119 @@
+package org.parser.diagnostic;
+
+import java.util.function.Supplier;
+
+/**
+ * <h1> DiagnosticReason </h1>
+ * <p>
+ * It lists the reasons for which a user method is rejected, or accepted, during its analysis,
+ * each one with the message printed when it is reported. The details of a message are only turned into text when it is printed.
+ */
+public enum DiagnosticReason {
+    /**
+     * Two elements of different kinds are compared.
+     */
+    DIFFERENT_META_MODEL("Error MetaModel!"),
+    /**
+     * An element is a formal parameter in a different position, or a local variable, in only one of the two methods.
+     */
+    DIFFERENT_PARAMETER_INDEX("Error getIndex or not both variable!"),
+    /**
+     * The nature of two variables is not the same in both methods.
+     */
+    DIFFERENT_VARIABLE_NATURE("Error recognize nature both variable"),
+    /**
+     * The content of two variables is not the same in both methods.
+     */
+    DIFFERENT_VARIABLE_CONTENT("Error different variable content!"),
+    /**
+     * Two names do not refer to the same element in both methods.
+     */
+    DIFFERENT_NAME_EXPR("Error to two NameExpr!"),
+    /**
+     * The indexes passed to two arrays are different.
+     */
+    DIFFERENT_ARRAY_ACCESS("Error in indexes passed to arrays!"),
+    /**
+     * The elements of two field accesses are different.
+     */
+    DIFFERENT_FIELD_ACCESS_ELEMENTS("Different FieldAccessExpr elements!"),
+    /**
+     * Two field accesses are different.
+     */
+    DIFFERENT_FIELD_ACCESS("Different FieldAccessExpr!"),
+    /**
+     * Only one of two method calls has a scope.
+     */
+    MISSING_CALL_SCOPE("Scope not present in both MethodCalls!"),
+    /**
+     * The scopes of two method calls are different.
+     */
+    DIFFERENT_CALL_SCOPE("Different scopes when comparing MethodCallExpr!"),
+    /**
+     * The names of two called methods are different.
+     */
+    DIFFERENT_CALL_NAME("Different method names in MethodCallExpr!"),
+    /**
+     * The number of arguments of two method calls is different.
+     */
+    DIFFERENT_CALL_ARGUMENTS_NUMBER("Different number of arguments in MethodCallExpr!"),
+    /**
+     * The values of two variables are different.
+     */
+    DIFFERENT_VARIABLE_VALUE("Error in the comparison between the values of the variables"),
+    /**
+     * The operators of two expressions are different.
+     */
+    DIFFERENT_OPERATOR("Different operator!"),
+    /**
+     * An argument of the recursive call is neither a local variable nor a formal parameter.
+     */
+    INVALID_RECURSIVE_CALL_ARGUMENT("The arguments of the recursive call can only be local variables or formal parameters!"),
+    /**
+     * The number of iterative or conditional constructs is different.
+     */
+    DIFFERENT_CONSTRUCTS_NUMBER("Different number of iterative or conditional constructs!"),
+    /**
+     * The conditions or the arguments of the recursive call have a different shape from those of the recursive method, passed as detail.
+     */
+    DIFFERENT_STRUCTURE("Different shape of the conditions or of the recursive call arguments!%n"
+            + "The iterative version of the following recursive method is not available: %s"),
+    /**
+     * A construct differs from the corresponding one of the recursive method, passed as detail.
+     */
+    DIFFERENT_CONSTRUCT("The iterative version of the following recursive method is not available: %s"),
+    /**
+     * The arguments of the recursive call differ from those of the recursive method, passed as detail.
+     */
+    DIFFERENT_RECURSIVE_CALL_ARGUMENTS("The arguments of the method call are different!%n"
+            + "The iterative version of the following recursive method is not available: %s"),
+    /**
+     * The method, passed as detail with the other methods of its cycle, is mutually recursive.
+     */
+    MUTUAL_RECURSION("The method %s is mutually recursive with %s: only direct recursion can be converted!"),
+    /**
+     * The method passed all the comparisons with a recursive method.
+     */
+    SAME_RECURSIVE_CALL_ARGUMENTS("Same arguments in the recursive call to the method!");
+
+    private final String message;
+
+    DiagnosticReason(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the message of the reason completed with the details passed as input.
+     * A detail that is a supplier is replaced by the value it supplies.
+     *
+     * @param details the details
+     * @return string
+     */
+    public String format(Object... details) {
+        Object[] values = new Object[details.length];
+        for (int i = 0; i < details.length; i++) {
+            values[i] = details[i] instanceof Supplier ? ((Supplier<?>) details[i]).get() : details[i];
+        }
+        return String.format(message, values);
+    }
+}
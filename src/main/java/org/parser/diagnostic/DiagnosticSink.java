@@ -0,0 +1,19 @@
+package org.parser.diagnostic;
+
+/**
+ * <h1> DiagnosticSink </h1>
+ * <p>
+ * It receives the diagnostic events reported during the analysis of the user files.
+ * The same instance is used by all the threads of a run, so it must accept events concurrently.
+ */
+@FunctionalInterface
+public interface DiagnosticSink {
+
+    /**
+     * Receives an event with the reason and the details passed as input.
+     *
+     * @param reason  the reason
+     * @param details the details
+     */
+    void accept(DiagnosticReason reason, Object... details);
+}
@@ -0,0 +1,101 @@
+package org.parser.diagnostic;
+
+import org.parser.config.RunConfiguration;
+
+/**
+ * <h1> Diagnostics </h1>
+ * <p>
+ * This class receives the diagnostic events of the analysis and passes them to the sink of the run.
+ * Events are reported with their reason and the objects needed by its message, which are only turned into text by a sink that prints them:
+ * when diagnostics are disabled there is no sink, so reporting an event neither builds its message nor allocates anything.
+ * <p>
+ * Until a sink is configured, events are printed, as the analysis has always done.
+ */
+public final class Diagnostics {
+    private static final Object[] NO_DETAILS = new Object[0];
+
+    private static volatile DiagnosticSink sink = new PrintingSink();
+
+    /**
+     * Instantiates a new Diagnostics.
+     */
+    private Diagnostics() {
+    }
+
+    /**
+     * Sets the sink corresponding to the diagnostic level passed as input.
+     *
+     * @param level the level
+     * @return the sink, null if diagnostics are disabled
+     */
+    public static DiagnosticSink configure(RunConfiguration.DiagnosticLevel level) {
+        switch (level) {
+            case OFF:
+                setSink(null);
+                break;
+            case COUNT:
+                setSink(new CountingSink());
+                break;
+            default:
+                setSink(new PrintingSink());
+        }
+        return sink;
+    }
+
+    /**
+     * Sets the sink that receives the events, null to disable diagnostics.
+     *
+     * @param newSink the new sink
+     */
+    public static void setSink(DiagnosticSink newSink) {
+        sink = newSink;
+    }
+
+    /**
+     * Checks whether diagnostics are enabled.
+     *
+     * @return boolean
+     */
+    public static boolean isEnabled() {
+        return sink != null;
+    }
+
+    /**
+     * Reports an event without details.
+     *
+     * @param reason the reason
+     */
+    public static void report(DiagnosticReason reason) {
+        DiagnosticSink current = sink;
+        if (current != null) {
+            current.accept(reason, NO_DETAILS);
+        }
+    }
+
+    /**
+     * Reports an event with a single detail.
+     *
+     * @param reason the reason
+     * @param detail the detail
+     */
+    public static void report(DiagnosticReason reason, Object detail) {
+        DiagnosticSink current = sink;
+        if (current != null) {
+            current.accept(reason, detail);
+        }
+    }
+
+    /**
+     * Reports an event with two details.
+     *
+     * @param reason the reason
+     * @param first  the first
+     * @param second the second
+     */
+    public static void report(DiagnosticReason reason, Object first, Object second) {
+        DiagnosticSink current = sink;
+        if (current != null) {
+            current.accept(reason, first, second);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.parser.diagnostic;
+
+/**
+ * <h1> PrintingSink </h1>
+ * <p>
+ * It prints the message of every event on the standard output, as the analysis has always done.
+ */
+public final class PrintingSink implements DiagnosticSink {
+
+    @Override
+    public void accept(DiagnosticReason reason, Object... details) {
+        System.out.println(reason.format(details));
+    }
+}
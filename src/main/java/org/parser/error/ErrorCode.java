@@ -25,6 +25,10 @@ public enum ErrorCode {
      * The Bad writing file.
      */
     BAD_WRITING_FILE("Error in writing file"),
+    /**
+     * The Bad reading file.
+     */
+    BAD_READING_FILE("Error in reading file"),
     /**
      * The Trouble parsing file.
      */
@@ -32,7 +36,11 @@ public enum ErrorCode {
     /**
      * The Absence body method.
      */
-    ABSENCE_BODY_METHOD("Absence body method");
+    ABSENCE_BODY_METHOD("Absence body method"),
+    /**
+     * The Interrupted execution.
+     */
+    INTERRUPTED_EXECUTION("Interrupted execution");
 
     private String message;
 
@@ -0,0 +1,160 @@
+package org.parser.execution;
+
+import org.parser.config.RunConfiguration;
+import org.parser.error.ErrorCode;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.parser.error.ErrorCode.generateErrorException;
+
+/**
+ * <h1> FileExecutor </h1>
+ * <p>
+ * This class processes the user files concurrently, on a fork-join pool or on a pool with a fixed number of threads.
+ * Each file is converted by its own task, while the results are handed over in the same order as the input files,
+ * so the output of the program does not depend on the number of threads.
+ * The files are taken from the input as the tasks complete, with a bounded number of tasks in flight:
+ * the processing starts with the first file found, and neither the files nor the results are ever held all together.
+ */
+public final class FileExecutor implements AutoCloseable {
+
+    /**
+     * The work performed on a single user file.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface FileTask<T> {
+        /**
+         * Processes the file passed as input.
+         *
+         * @param file the file
+         * @return the result
+         * @throws ErrorException the error exception
+         */
+        T process(File file) throws ErrorException;
+    }
+
+    /**
+     * The consumer of the results, invoked on the calling thread in the order of the input files.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface ResultHandler<T> {
+        /**
+         * Consumes the result of a single file.
+         *
+         * @param result the result
+         * @throws ErrorException the error exception
+         */
+        void handle(T result) throws ErrorException;
+    }
+
+    /**
+     * The number of tasks in flight for each thread, enough to keep the threads busy while the results are handled in order.
+     */
+    private static final int TASKS_IN_FLIGHT_PER_THREAD = 4;
+
+    private final ExecutorService executorService;
+    private final int maxTasksInFlight;
+
+    /**
+     * Instantiates a new File executor.
+     *
+     * @param executorService  the executor service
+     * @param maxTasksInFlight the max tasks in flight
+     */
+    private FileExecutor(ExecutorService executorService, int maxTasksInFlight) {
+        this.executorService = executorService;
+        this.maxTasksInFlight = maxTasksInFlight;
+    }
+
+    /**
+     * Creates the executor described by the configuration passed as input.
+     *
+     * @param configuration the configuration
+     * @return file executor
+     */
+    public static FileExecutor create(RunConfiguration configuration) {
+        int maxTasksInFlight = configuration.getThreads() * TASKS_IN_FLIGHT_PER_THREAD;
+        if (configuration.getExecutorKind() == RunConfiguration.ExecutorKind.FIXED) {
+            return new FileExecutor(Executors.newFixedThreadPool(configuration.getThreads()), maxTasksInFlight);
+        }
+        return new FileExecutor(new ForkJoinPool(configuration.getThreads()), maxTasksInFlight);
+    }
+
+    /**
+     * Processes all the files passed as input and hands over the results in the order of the stream.
+     * The first error found, in the order of the stream, stops the execution.
+     *
+     * @param files   the files
+     * @param task    the task
+     * @param handler the handler
+     * @param <T>     the type of the result
+     * @throws ErrorException the error exception
+     */
+    public <T> void execute(Stream<File> files, FileTask<T> task, ResultHandler<T> handler) throws ErrorException {
+        Iterator<File> iterator = files.iterator();
+        Deque<Future<T>> futures = new ArrayDeque<>();
+
+        try {
+            while (iterator.hasNext() || !futures.isEmpty()) {
+                while (futures.size() < maxTasksInFlight && iterator.hasNext()) {
+                    File file = iterator.next();
+                    futures.add(executorService.submit(() -> task.process(file)));
+                }
+                handler.handle(retrieveResult(futures.poll()));
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Waits for the result of a single file, propagating the error that stopped its processing.
+     *
+     * @param future the future
+     * @param <T>    the type of the result
+     * @return the result
+     * @throws ErrorException the error exception
+     */
+    private static <T> T retrieveResult(Future<T> future) throws ErrorException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ErrorException) {
+                throw (ErrorException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw generateErrorException(ErrorCode.INTERRUPTED_EXECUTION);
+        }
+    }
+
+    /**
+     * Stops the threads of the executor.
+     */
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
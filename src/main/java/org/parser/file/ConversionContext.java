@@ -0,0 +1,110 @@
+package org.parser.file;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h1> ConversionContext </h1>
+ * <p>
+ * This class contains the state of the conversion of a single user file.
+ * Every file gets its own context, which is passed explicitly from the parsing to the writing of the result,
+ * so that several files can be converted at the same time by different threads.
+ * It also keeps the original source of the file and the methods replaced in it, so that the original text can be patched,
+ * and the names of the candidate recursive methods found by the scan of the source, if it was scanned.
+ */
+public class ConversionContext {
+    private final FileUser userFile;
+    private final String source;
+    private final Set<String> candidateNames;
+    private final List<MethodReplacement> replacements = new ArrayList<>();
+
+    /**
+     * Instantiates a new Conversion context, parsing the user file passed as input.
+     *
+     * @param file the file
+     * @throws ErrorException the error exception
+     */
+    public ConversionContext(File file) throws ErrorException {
+        this.userFile = new FileUser(file);
+        this.source = null;
+        this.candidateNames = null;
+    }
+
+    /**
+     * Instantiates a new Conversion context, parsing a version of the user file passed as input in which some parts may have been blanked.
+     * The parsed source must have the same length and the same line separators of the original one.
+     *
+     * @param file           the file
+     * @param source         the source
+     * @param parsedSource   the parsed source
+     * @param candidateNames the names of the candidate recursive methods, null if every method is a candidate
+     * @throws ErrorException the error exception
+     */
+    public ConversionContext(File file, String source, String parsedSource, Set<String> candidateNames) throws ErrorException {
+        this.userFile = new FileUser(file, parsedSource);
+        this.source = source;
+        this.candidateNames = candidateNames;
+    }
+
+    /**
+     * Returns the user file being converted.
+     *
+     * @return file user
+     */
+    public FileUser getUserFile() {
+        return userFile;
+    }
+
+    /**
+     * Returns the CompilationUnit instance of the user file being converted.
+     *
+     * @return compilation unit
+     */
+    public CompilationUnit getCompilationUnit() {
+        return userFile.getUserCompilationUnit();
+    }
+
+    /**
+     * Returns the original source of the user file, null if the file was parsed without reading it first.
+     *
+     * @return string
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Checks whether the method passed as input may be recursive, according to the scan of the source.
+     *
+     * @param method the method
+     * @return boolean
+     */
+    public boolean isCandidate(MethodDeclaration method) {
+        return candidateNames == null || candidateNames.contains(method.getNameAsString());
+    }
+
+    /**
+     * Records that the user method passed as input is about to be replaced. It must be called before the method is modified.
+     *
+     * @param method the method
+     */
+    public void recordReplacement(MethodDeclaration method) {
+        replacements.add(new MethodReplacement(method));
+    }
+
+    /**
+     * Returns the methods replaced in the user file, in the order in which they were replaced.
+     *
+     * @return list
+     */
+    public List<MethodReplacement> getReplacements() {
+        return Collections.unmodifiableList(replacements);
+    }
+}
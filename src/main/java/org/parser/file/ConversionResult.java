@@ -0,0 +1,68 @@
+package org.parser.file;
+
+import java.io.File;
+
+/**
+ * <h1> ConversionResult </h1>
+ * <p>
+ * This class contains the outcome of the conversion of a single user file: the converted source to be written in the output folder,
+ * either produced by the analysis of the file or reused from a previous run.
+ * It also tells whether the converted source differs from the original one.
+ */
+public class ConversionResult {
+    private final File file;
+    private final String source;
+    private final boolean cached;
+    private final boolean changed;
+
+    /**
+     * Instantiates a new Conversion result.
+     *
+     * @param file   the file
+     * @param source the source
+     * @param cached  the cached
+     * @param changed the changed
+     */
+    public ConversionResult(File file, String source, boolean cached, boolean changed) {
+        this.file = file;
+        this.source = source;
+        this.cached = cached;
+        this.changed = changed;
+    }
+
+    /**
+     * Returns the user file that was converted.
+     *
+     * @return file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the converted source of the user file.
+     *
+     * @return string
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Checks whether the converted source was reused from a previous run.
+     *
+     * @return boolean
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * Checks whether the converted source differs from the original source of the user file.
+     *
+     * @return boolean
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+}
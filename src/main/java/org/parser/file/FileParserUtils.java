@@ -1,21 +1,40 @@
 package org.parser.file;
 
-import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.printer.PrettyPrinter;
+import com.github.javaparser.printer.PrettyPrinterConfiguration;
+import com.github.javaparser.utils.LineSeparator;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import javafx.util.Pair;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.lang3.StringUtils;
+import org.parser.analysis.CallGraph;
+import org.parser.analysis.SourceScan;
+import org.parser.config.RunConfiguration;
+import org.parser.diagnostic.DiagnosticReason;
+import org.parser.diagnostic.Diagnostics;
 import org.parser.error.ErrorCode;
 import org.parser.error.ErrorException;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.parser.analysis.AnalysisRecursiveMethod.getRecursiveMethodCall;
 import static org.parser.error.ErrorCode.generateErrorException;
@@ -30,31 +49,55 @@ import static org.parser.error.ErrorCode.generateErrorException;
  */
 public class FileParserUtils {
 
-    private static FileUser userFile;
     private static final String inputFolder = "userCode";
     private static final String outputFolder = "userFileConverted/";
+    private static final String cacheFolder = ".javaparser-cache";
+    private static final String patchFile = "userFileConverted.patch";
 
     private FileParserUtils() {
     }
 
     /**
-     * Extrapolation of all methods contained in the class passed inside the file
+     * Extrapolation of all methods contained in the class of the user file being converted
      * and saving all and only the recursive methods inside a list.
+     * Only the methods found by the scan of the source are analyzed.
      *
-     * @param file the file
+     * @param context the context
      * @return list method declaration
-     * @throws ErrorException the error exception
      */
-    public static List<MethodDeclaration> getRecursiveUserMethodList(File file) throws ErrorException {
-        userFile = new FileUser(file);
-        CompilationUnit cu = userFile.getUserCompilationUnit();
+    public static List<MethodDeclaration> getRecursiveUserMethodList(ConversionContext context) {
+        CompilationUnit cu = retrieveUserCompilationUnit(context);
 
         return CollectionUtils.emptyIfNull(cu.findAll(MethodDeclaration.class))
                 .stream()
-                .filter(element -> getRecursiveMethodCall(element) != null)
+                .filter(element -> context.isCandidate(element) && getRecursiveMethodCall(element) != null)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Reports the methods of the user file that cannot be converted because they are mutually recursive without calling themselves,
+     * according to the graph of the calls found by the scan passed as input. The graph covers all the methods of the file,
+     * so the methods are reported even if their bodies are never parsed. Nothing is done if the diagnostics are disabled.
+     *
+     * @param scan the scan
+     */
+    public static void reportMutualRecursion(SourceScan scan) {
+        if (!Diagnostics.isEnabled()) {
+            return;
+        }
+        CallGraph callGraph = CallGraph.of(scan.getCalls());
+        for (String key : scan.getCalls().keySet()) {
+            if (callGraph.classify(key) != CallGraph.Recursion.MUTUAL || callGraph.callsItself(key)) {
+                continue;
+            }
+            Supplier<String> cycle = () -> callGraph.retrieveCycle(key).stream()
+                    .map(CallGraph::retrieveName)
+                    .distinct()
+                    .collect(Collectors.joining(", "));
+            Diagnostics.report(DiagnosticReason.MUTUAL_RECURSION, CallGraph.retrieveName(key), cycle);
+        }
+    }
+
     /**
      * Returns the CompilationUnit instance of a file passed in as input.
      *
@@ -64,50 +107,238 @@ public class FileParserUtils {
      */
     public static CompilationUnit retrieveCompilationUnit(File file) throws ErrorException {
         try {
-            return StaticJavaParser.parse(file);
+            return ParserFactory.parse(ParserFactory.Profile.SOURCE, file);
         } catch (Exception e) {
             throw generateErrorException(ErrorCode.TROUBLE_PARSING_FILE);
         }
     }
 
     /**
-     * Returns the current CompilationUnit instance of the user file.
+     * Returns the CompilationUnit instance of the user file being converted.
      *
+     * @param context the context
      * @return compilation unit
      */
-    public static CompilationUnit retrieveUserCompilationUnit() {
-        return userFile.getUserCompilationUnit();
+    public static CompilationUnit retrieveUserCompilationUnit(ConversionContext context) {
+        return context.getCompilationUnit();
     }
 
     /**
-     * Returns all methods within the user file.
+     * Returns all methods within the user file being converted.
      *
+     * @param context the context
      * @return list method declaration
      */
-    public static List<MethodDeclaration> getAllUserMethodList() {
-        return retrieveUserCompilationUnit().findAll(MethodDeclaration.class);
+    public static List<MethodDeclaration> getAllUserMethodList(ConversionContext context) {
+        return retrieveUserCompilationUnit(context).findAll(MethodDeclaration.class);
     }
 
     /**
      * Creates a new file containing the result of program execution on the user's source file.
+     * The file keeps the path it has inside the input folder, so that files with the same name in different folders do not overwrite each other.
+     * A file reused from a previous run is not written again if the output folder already contains it.
+     * With the minimal output mode, a file in which nothing was converted is not written at all.
+     * The content is encoded with the charset the user file was read with, so that the text left as it is keeps its original bytes.
+     * It is written to a temporary file of the same folder, which then replaces the output file in a single step,
+     * so that an output file is never left half-written.
      *
+     * @param result     the result
+     * @param outputMode the output mode
+     * @param charset    the charset of the user files
+     * @param fsync      whether the content is forced to the storage device before replacing the output file
+     * @return the number of bytes written, -1 if the file was not written
      * @throws ErrorException the error exception
      */
-    public static void updateUserFile() throws ErrorException {
-        File directory = new File(retrieveUserFolderPath(outputFolder));
-        if (!directory.exists()) {
-            directory.mkdir();
+    public static long updateUserFile(ConversionResult result, RunConfiguration.OutputMode outputMode, Charset charset, boolean fsync)
+            throws ErrorException {
+        if (outputMode == RunConfiguration.OutputMode.MINIMAL && !result.isChanged()) {
+            return -1;
         }
 
-        File newFile = new File(directory + "/" + userFile.getFile().getName());
-
-        try (FileWriter fooWriter = new FileWriter(newFile, false)) {
-            fooWriter.write(retrieveUserCompilationUnit().toString());
+        Path newFile = retrieveOutputFile(result.getFile()).toPath();
+        byte[] content = result.getSource().getBytes(charset);
+        Path temporary = null;
+        try {
+            if (result.isCached() && isSameContent(newFile.toFile(), content)) {
+                return -1;
+            }
+            Files.createDirectories(newFile.getParent());
+            temporary = retrieveTemporaryPath(newFile);
+            writeContent(temporary, content, fsync);
+            moveAtomically(temporary, newFile);
+            return content.length;
         } catch (Exception e) {
+            deleteTemporaryFile(temporary);
             throw generateErrorException(ErrorCode.BAD_WRITING_FILE);
         }
     }
 
+    /**
+     * Writes the content passed as input in the file passed as input, forcing it to the storage device if requested.
+     *
+     * @param file    the file
+     * @param content the content
+     * @param fsync   the fsync
+     * @throws IOException the io exception
+     */
+    private static void writeContent(Path file, byte[] content, boolean fsync) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Returns a new path, next to the file passed as input, for the temporary file that will replace it.
+     * The temporary file is created with the default permissions of new files, which it passes on to the file it replaces.
+     *
+     * @param target the target
+     * @return path
+     */
+    static Path retrieveTemporaryPath(Path target) {
+        return target.resolveSibling(target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+    }
+
+    /**
+     * Replaces the target file with the source file in a single step, or with a plain rename if the file system cannot do it atomically.
+     *
+     * @param source the source
+     * @param target the target
+     * @throws IOException the io exception
+     */
+    static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the temporary file of an output file that could not be written.
+     *
+     * @param temporary the temporary
+     */
+    private static void deleteTemporaryFile(Path temporary) {
+        try {
+            if (temporary != null) {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            // The error that prevented the writing is the one reported.
+        }
+    }
+
+    /**
+     * Checks whether the file passed as input already has the content passed as input.
+     *
+     * @param file    the file
+     * @param content the content
+     * @return boolean
+     * @throws IOException the io exception
+     */
+    private static boolean isSameContent(File file, byte[] content) throws IOException {
+        return file.isFile() && file.length() == content.length && Arrays.equals(Files.readAllBytes(file.toPath()), content);
+    }
+
+    /**
+     * Returns the source code of the user file being converted, with all the changes made to it.
+     * With the minimal output mode, the original source is patched where the methods were replaced,
+     * unless the original positions of the methods are not known, in which case the whole file is printed.
+     * With the patch output mode, the hunks of the unified diff between the original and the minimal source are returned instead,
+     * an empty string if nothing was converted.
+     *
+     * @param context    the context
+     * @param outputMode the output mode
+     * @return string
+     */
+    public static String retrieveSourceCode(ConversionContext context, RunConfiguration.OutputMode outputMode) {
+        CompilationUnit cu = retrieveUserCompilationUnit(context);
+        String source = context.getSource();
+        if (outputMode == RunConfiguration.OutputMode.FULL || source == null) {
+            return printCompilationUnit(cu);
+        }
+
+        List<Pair<int[], String>> edits = MinimalSourcePrinter.retrieveEdits(source, context.getReplacements(), retrieveLineSeparator(cu))
+                .orElseGet(() -> Collections.singletonList(new Pair<>(new int[]{0, source.length()}, printCompilationUnit(cu))));
+        if (outputMode == RunConfiguration.OutputMode.PATCH) {
+            return UnifiedDiffPrinter.printHunks(source, edits);
+        }
+        return MinimalSourcePrinter.applyEdits(source, edits);
+    }
+
+    /**
+     * Returns the source code of the CompilationUnit passed as input.
+     * A new printer is used for each file, so that the line separator of one file does not leak into the others printed at the same time.
+     *
+     * @param cu the cu
+     * @return string
+     */
+    private static String printCompilationUnit(CompilationUnit cu) {
+        PrettyPrinterConfiguration configuration = new PrettyPrinterConfiguration()
+                .setEndOfLineCharacter(cu.getLineEndingStyleOrDefault(LineSeparator.SYSTEM).asRawString());
+        return new PrettyPrinter(configuration).print(cu);
+    }
+
+    /**
+     * Returns the line separator used by the CompilationUnit passed as input, the one of the system if it uses several or none.
+     *
+     * @param cu the cu
+     * @return string
+     */
+    private static String retrieveLineSeparator(CompilationUnit cu) {
+        LineSeparator lineSeparator = cu.getLineEndingStyleOrDefault(LineSeparator.SYSTEM);
+        return lineSeparator.isStandardEol() ? lineSeparator.asRawString() : LineSeparator.SYSTEM.asRawString();
+    }
+
+    /**
+     * Returns the file of the output folder corresponding to the user file passed as input.
+     *
+     * @param file the file
+     * @return file
+     */
+    private static File retrieveOutputFile(File file) {
+        return Paths.get(retrieveUserFolderPath(outputFolder)).resolve(retrieveRelativePath(file)).toFile();
+    }
+
+    /**
+     * Returns the path of the user file passed as input relative to the input folder, only its name if it is outside of the folder.
+     *
+     * @param file the file
+     * @return path
+     */
+    private static Path retrieveRelativePath(File file) {
+        Path inputPath = Paths.get(retrieveUserFolderPath(inputFolder)).toAbsolutePath().normalize();
+        Path filePath = file.toPath().toAbsolutePath().normalize();
+        return filePath.startsWith(inputPath) ? inputPath.relativize(filePath) : filePath.getFileName();
+    }
+
+    /**
+     * Returns the path of the user file passed as input relative to the input folder, as written in a patch.
+     *
+     * @param file the file
+     * @return string
+     */
+    public static String retrievePatchPath(File file) {
+        return StreamSupport.stream(retrieveRelativePath(file).spliterator(), false)
+                .map(Path::toString)
+                .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * Returns the path of the patch containing the diffs of all the converted user files.
+     *
+     * @return path
+     */
+    public static Path retrievePatchBundlePath() {
+        return Paths.get(retrieveUserFolderPath(patchFile));
+    }
+
     /**
      * Returns the list of all algorithms to be examined in the directory "algorithms".
      *
@@ -142,52 +373,42 @@ public class FileParserUtils {
     }
 
     /**
-     * Returns the path of the folder related to the algorithms made available by the program.
+     * Returns the path of the folder containing the results of the previous runs.
      *
      * @return string
      */
-    private static String retrieveAlgorithmsPath() {
-        return retrieveRootPathProject().concat("algorithms");
+    public static String retrieveCachePath() {
+        return retrieveRootPathProject().concat(cacheFolder);
     }
 
     /**
-     * Adds all files found in the folder to the list
-     *
-     * @param list the list
-     * @param folder the folder
-     */
-    private static void listFilesForFolder(List<File> list, final File folder) {
-        for (final File fileEntry : folder.listFiles()) {
-            if (fileEntry.isDirectory()) {
-                listFilesForFolder(list, fileEntry);
-            } else {
-                list.add(fileEntry);
-            }
-        }
-    }
-
-    /**
-     * Returns the extension of the file passed as input.
+     * Returns the path of the folder related to the algorithms made available by the program.
      *
-     * @param file the file
      * @return string
      */
-    private static String retrieveExtensionFilename(File file) {
-        return FilenameUtils.getExtension(file.getName());
+    private static String retrieveAlgorithmsPath() {
+        return retrieveRootPathProject().concat("algorithms");
     }
 
     /**
-     * Returns a list containing the user files to be analyzed.
+     * Returns the user files to be analyzed, that is the files of the input folder selected by the matcher passed as input.
+     * The input folder is walked lazily, sorting the entries of one folder at a time, so that the files are converted and written
+     * in the same order whatever the file system, while the first files are returned before the rest of the tree is listed.
+     * The stream should be closed once consumed.
      *
-     * @return list
+     * @param matcher the matcher
+     * @return stream
+     * @throws ErrorException the error exception
      */
-    public static List<File> retrieveUserFilesList() {
-        List<File> list = new ArrayList<>();
-        listFilesForFolder(list, new File(retrieveUserFolderPath(inputFolder)));
-        return CollectionUtils.emptyIfNull(list)
-                .stream()
-                .filter(element -> StringUtils.contains(retrieveExtensionFilename(element), "java"))
-                .collect(Collectors.toList());
+    public static Stream<File> retrieveUserFiles(SourceFileMatcher matcher) throws ErrorException {
+        Path inputPath = Paths.get(retrieveUserFolderPath(inputFolder));
+        try {
+            return SortedFileWalker.walk(inputPath)
+                    .filter(path -> matcher.matches(inputPath.relativize(path)))
+                    .map(Path::toFile);
+        } catch (IOException e) {
+            throw generateErrorException(ErrorCode.BAD_READING_FILE);
+        }
     }
 
     /**
@@ -1,6 +1,5 @@
 package org.parser.file;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import org.parser.error.ErrorCode;
 import org.parser.error.ErrorException;
@@ -25,7 +24,23 @@ public class FileUser {
     public FileUser(File file) throws ErrorException {
         this.file = file;
         try {
-            cu = StaticJavaParser.parse(file);
+            cu = ParserFactory.parse(ParserFactory.Profile.SOURCE, file);
+        } catch (Exception e) {
+            throw generateErrorException(ErrorCode.TROUBLE_PARSING_FILE);
+        }
+    }
+
+    /**
+     * Instantiates a new File user, whose content has already been read.
+     *
+     * @param file   the file
+     * @param source the source
+     * @throws ErrorException the error exception
+     */
+    public FileUser(File file, String source) throws ErrorException {
+        this.file = file;
+        try {
+            cu = ParserFactory.parse(ParserFactory.Profile.SOURCE, source);
         } catch (Exception e) {
             throw generateErrorException(ErrorCode.TROUBLE_PARSING_FILE);
         }
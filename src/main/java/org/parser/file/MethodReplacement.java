@@ -0,0 +1,82 @@
+package org.parser.file;
+
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.MethodDeclaration;
+
+import java.util.Optional;
+
+/**
+ * <h1> MethodReplacement </h1>
+ * <p>
+ * This class records a user method that is about to be replaced, together with the positions that its name, its formal parameters
+ * and its body had in the original source, so that the original text can later be patched in those positions only.
+ */
+public class MethodReplacement {
+    private final MethodDeclaration method;
+    private final Range nameRange;
+    private final Range parametersRange;
+    private final Range bodyRange;
+    private final boolean withParameters;
+
+    /**
+     * Instantiates a new Method replacement, reading the positions of the method passed as input before it is modified.
+     *
+     * @param method the method
+     */
+    public MethodReplacement(MethodDeclaration method) {
+        this.method = method;
+        this.nameRange = method.getName().getRange().orElse(null);
+        this.withParameters = method.getParameters().isNonEmpty();
+        this.parametersRange = withParameters ? method.getParameter(0).getRange()
+                .flatMap(first -> method.getParameter(method.getParameters().size() - 1).getRange()
+                        .map(last -> new Range(first.begin, last.end)))
+                .orElse(null) : null;
+        this.bodyRange = method.getBody().flatMap(Node::getRange).orElse(null);
+    }
+
+    /**
+     * Checks whether all the original positions needed to patch the method are known.
+     *
+     * @return boolean
+     */
+    public boolean isPositioned() {
+        return bodyRange != null && (parametersRange != null || !withParameters);
+    }
+
+    /**
+     * Returns the method, which contains the iterative version once the replacement is done.
+     *
+     * @return method declaration
+     */
+    public MethodDeclaration getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the original positions of the name, if they are known.
+     *
+     * @return optional
+     */
+    public Optional<Range> getNameRange() {
+        return Optional.ofNullable(nameRange);
+    }
+
+    /**
+     * Returns the original positions of the formal parameters, from the first to the last one, if the method has any.
+     *
+     * @return optional
+     */
+    public Optional<Range> getParametersRange() {
+        return Optional.ofNullable(parametersRange);
+    }
+
+    /**
+     * Returns the original positions of the body, if they are known.
+     *
+     * @return optional
+     */
+    public Optional<Range> getBodyRange() {
+        return Optional.ofNullable(bodyRange);
+    }
+}
@@ -0,0 +1,228 @@
+package org.parser.file;
+
+import com.github.javaparser.Position;
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.printer.PrettyPrinter;
+import com.github.javaparser.printer.PrettyPrinterConfiguration;
+import javafx.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * <h1> MinimalSourcePrinter </h1>
+ * <p>
+ * This class produces the converted source of a user file by patching its original text: only the formal parameters
+ * and the body of the replaced methods are printed again, everything else keeps the formatting chosen by the user.
+ * The printed body is indented as the line on which the original body started.
+ */
+public final class MinimalSourcePrinter {
+
+    private MinimalSourcePrinter() {
+    }
+
+    /**
+     * Returns the original source passed as input, patched with the replacements passed as input.
+     * Nothing is returned if the original position of a replacement is not known or does not match the source,
+     * in which case the whole file has to be printed again.
+     *
+     * @param source        the source
+     * @param replacements  the replacements
+     * @param lineSeparator the line separator
+     * @return optional
+     */
+    public static Optional<String> print(String source, List<MethodReplacement> replacements, String lineSeparator) {
+        return retrieveEdits(source, replacements, lineSeparator).map(edits -> applyEdits(source, edits));
+    }
+
+    /**
+     * Returns the edits that patch the original source passed as input with the replacements passed as input, sorted by position.
+     * Each edit is made of the offsets of the original text, the first character included and the last one excluded, and of the new text.
+     * Nothing is returned if the original position of a replacement is not known or does not match the source.
+     *
+     * @param source        the source
+     * @param replacements  the replacements
+     * @param lineSeparator the line separator
+     * @return optional
+     */
+    public static Optional<List<Pair<int[], String>>> retrieveEdits(String source, List<MethodReplacement> replacements, String lineSeparator) {
+        List<Pair<int[], String>> edits = new ArrayList<>();
+        if (replacements.isEmpty()) {
+            return Optional.of(edits);
+        }
+
+        int[] lineStarts = retrieveLineStarts(source);
+        List<MethodReplacement> sortedReplacements = replacements.stream()
+                .sorted(Comparator.comparing(replacement -> replacement.getBodyRange().map(range -> range.begin).orElse(Position.HOME)))
+                .collect(Collectors.toList());
+        Range lastBodyRange = null;
+
+        for (MethodReplacement replacement : sortedReplacements) {
+            if (!replacement.isPositioned()) {
+                return Optional.empty();
+            }
+            Range bodyRange = replacement.getBodyRange().get();
+            if (lastBodyRange != null && lastBodyRange.contains(bodyRange)) {
+                // The enclosing method has already been printed again, together with this one.
+                continue;
+            }
+            lastBodyRange = bodyRange;
+
+            MethodDeclaration method = replacement.getMethod();
+            PrettyPrinter printer = new PrettyPrinter(new PrettyPrinterConfiguration().setEndOfLineCharacter(lineSeparator));
+            String parameters = method.getParameters().stream().map(printer::print).collect(Collectors.joining(", "));
+            if (replacement.getParametersRange().isPresent()) {
+                edits.add(new Pair<>(retrieveOffsets(lineStarts, replacement.getParametersRange().get()), parameters));
+            } else if (!parameters.isEmpty()) {
+                // The original method had no parameters: the new ones are inserted after the opening parenthesis.
+                int parametersStart = replacement.getNameRange().map(range -> retrieveParametersStart(source, lineStarts, range)).orElse(-1);
+                if (parametersStart == -1) {
+                    return Optional.empty();
+                }
+                edits.add(new Pair<>(new int[]{parametersStart, parametersStart}, parameters));
+            }
+
+            int[] bodyOffsets = retrieveOffsets(lineStarts, bodyRange);
+            if (!isBlock(source, bodyOffsets) || !method.getBody().isPresent()) {
+                return Optional.empty();
+            }
+            String indentation = retrieveIndentation(source, lineStarts[bodyRange.begin.line - 1]);
+            edits.add(new Pair<>(bodyOffsets, indent(printer.print(method.getBody().get()), indentation, lineSeparator)));
+        }
+
+        edits.sort(Comparator.comparingInt(edit -> edit.getKey()[0]));
+        return Optional.of(edits);
+    }
+
+    /**
+     * Returns the result of the edits passed as input, sorted by position and not overlapping, applied to the source passed as input.
+     *
+     * @param source the source
+     * @param edits  the edits
+     * @return string
+     */
+    static String applyEdits(String source, List<Pair<int[], String>> edits) {
+        if (edits.isEmpty()) {
+            return source;
+        }
+        StringBuilder builder = new StringBuilder(source.length());
+        int offset = 0;
+
+        for (Pair<int[], String> edit : edits) {
+            builder.append(source, offset, edit.getKey()[0]).append(edit.getValue());
+            offset = edit.getKey()[1];
+        }
+        return builder.append(source, offset, source.length()).toString();
+    }
+
+    /**
+     * Returns the offset of the first character of each line of the source passed as input.
+     * A line ends with "\r\n", "\r" or "\n", as for the parser.
+     *
+     * @param source the source
+     * @return int [ ]
+     */
+    static int[] retrieveLineStarts(String source) {
+        List<Integer> lineStarts = new ArrayList<>();
+        lineStarts.add(0);
+
+        for (int i = 0; i < source.length(); i++) {
+            char character = source.charAt(i);
+            if (character == '\r' && i + 1 < source.length() && source.charAt(i + 1) == '\n') {
+                i++;
+            }
+            if (character == '\r' || character == '\n') {
+                lineStarts.add(i + 1);
+            }
+        }
+        return lineStarts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the offsets of the range passed as input: the first character included and the last one excluded.
+     *
+     * @param lineStarts the line starts
+     * @param range      the range
+     * @return int [ ]
+     */
+    private static int[] retrieveOffsets(int[] lineStarts, Range range) {
+        return new int[]{
+                lineStarts[range.begin.line - 1] + range.begin.column - 1,
+                lineStarts[range.end.line - 1] + range.end.column
+        };
+    }
+
+    /**
+     * Returns the offset following the opening parenthesis of the formal parameters, which comes after the name whose range
+     * is passed as input, -1 if anything but whitespace separates the name from the parenthesis.
+     *
+     * @param source     the source
+     * @param lineStarts the line starts
+     * @param nameRange  the name range
+     * @return int
+     */
+    private static int retrieveParametersStart(String source, int[] lineStarts, Range nameRange) {
+        int offset = retrieveOffsets(lineStarts, nameRange)[1];
+        while (offset < source.length() && Character.isWhitespace(source.charAt(offset))) {
+            offset++;
+        }
+        return offset < source.length() && source.charAt(offset) == '(' ? offset + 1 : -1;
+    }
+
+    /**
+     * Checks whether the offsets passed as input delimit a block of the source passed as input.
+     *
+     * @param source  the source
+     * @param offsets the offsets
+     * @return boolean
+     */
+    private static boolean isBlock(String source, int[] offsets) {
+        return offsets[0] < offsets[1] && offsets[1] <= source.length()
+                && source.charAt(offsets[0]) == '{' && source.charAt(offsets[1] - 1) == '}';
+    }
+
+    /**
+     * Returns the whitespace at the beginning of the line starting at the offset passed as input.
+     *
+     * @param source    the source
+     * @param lineStart the line start
+     * @return string
+     */
+    private static String retrieveIndentation(String source, int lineStart) {
+        int end = lineStart;
+        while (end < source.length() && (source.charAt(end) == ' ' || source.charAt(end) == '\t')) {
+            end++;
+        }
+        return source.substring(lineStart, end);
+    }
+
+    /**
+     * Returns the code passed as input, with the indentation passed as input added to every non-empty line but the first one.
+     *
+     * @param code          the code
+     * @param indentation   the indentation
+     * @param lineSeparator the line separator
+     * @return string
+     */
+    private static String indent(String code, String indentation, String lineSeparator) {
+        if (indentation.isEmpty()) {
+            return code;
+        }
+        String[] lines = code.split(Pattern.quote(lineSeparator), -1);
+        StringBuilder builder = new StringBuilder(lines[0]);
+
+        for (int i = 1; i < lines.length; i++) {
+            builder.append(lineSeparator);
+            if (!lines[i].isEmpty()) {
+                builder.append(indentation).append(lines[i]);
+            }
+        }
+        return builder.toString();
+    }
+}
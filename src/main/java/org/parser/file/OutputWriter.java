@@ -0,0 +1,289 @@
+package org.parser.file;
+
+import org.parser.config.RunConfiguration;
+import org.parser.error.ErrorCode;
+import org.parser.error.ErrorException;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.parser.error.ErrorCode.generateErrorException;
+
+/**
+ * <h1> OutputWriter </h1>
+ * <p>
+ * This class writes the converted user files on a thread of its own, so that the next files are parsed and analyzed
+ * while the previous ones are being written. The results wait in a bounded queue: when the queue is full,
+ * the thread handing over the results waits for the writer, so the converted sources never pile up in memory.
+ * The files are written in the order in which they are handed over, each one atomically, as done by FileParserUtils.
+ * With the patch output mode, the diffs of the files are appended to a single patch bundle instead.
+ * <p>
+ * The first error found by the writer is thrown to the thread handing over the results, either at the next result or when the writer is closed.
+ */
+public final class OutputWriter implements AutoCloseable {
+
+    /**
+     * The result that tells the writer thread that no other result will be handed over.
+     */
+    private static final ConversionResult END_OF_RESULTS = new ConversionResult(null, null, false, false);
+
+    /**
+     * The time waited for room in the queue before checking again that the writer thread is still alive, in milliseconds.
+     */
+    private static final long PUT_CHECK_MILLIS = 100;
+
+    private final BlockingQueue<ConversionResult> queue;
+    private final int capacity;
+    private final RunConfiguration.OutputMode outputMode;
+    private final Charset charset;
+    private final boolean fsync;
+    private final Thread thread;
+    private final PatchBundle patchBundle;
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LongAdder filesWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private volatile ErrorException failure;
+    private boolean closed;
+
+    /**
+     * Instantiates a new Output writer.
+     *
+     * @param capacity    the capacity of the queue
+     * @param outputMode  the output mode
+     * @param charset     the charset of the user files, with which the converted files are written
+     * @param fsync       whether every file is forced to the storage device before being renamed
+     * @param patchBundle the patch bundle, null unless the output mode is the patch one
+     */
+    private OutputWriter(int capacity, RunConfiguration.OutputMode outputMode, Charset charset, boolean fsync, PatchBundle patchBundle) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.outputMode = outputMode;
+        this.charset = charset;
+        this.fsync = fsync;
+        this.patchBundle = patchBundle;
+        this.thread = new Thread(this::writeResults, "output-writer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Creates and starts the writer described by the configuration passed as input.
+     *
+     * @param configuration the configuration
+     * @return output writer
+     * @throws ErrorException the error exception
+     */
+    public static OutputWriter start(RunConfiguration configuration) throws ErrorException {
+        PatchBundle patchBundle = null;
+        if (configuration.getOutputMode() == RunConfiguration.OutputMode.PATCH) {
+            try {
+                patchBundle = PatchBundle.open(FileParserUtils.retrievePatchBundlePath(), configuration.getCharset(), configuration.isFsync());
+            } catch (IOException e) {
+                throw generateErrorException(ErrorCode.BAD_WRITING_FILE);
+            }
+        }
+
+        OutputWriter writer = new OutputWriter(configuration.getWriterQueueCapacity(), configuration.getOutputMode(),
+                configuration.getCharset(), configuration.isFsync(), patchBundle);
+        writer.thread.start();
+        return writer;
+    }
+
+    /**
+     * Hands over the result passed as input to the writer, waiting if the queue is full.
+     *
+     * @param result the result
+     * @throws ErrorException the error exception
+     */
+    public void submit(ConversionResult result) throws ErrorException {
+        checkFailure();
+        long start = System.nanoTime();
+        put(result);
+        waitNanos.add(System.nanoTime() - start);
+        maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    /**
+     * Puts the result passed as input in the queue, waiting if the queue is full.
+     * If the writer thread is no longer alive, nothing will ever make room in the queue, so the error that stopped it is thrown instead.
+     *
+     * @param result the result
+     * @throws ErrorException the error exception
+     */
+    private void put(ConversionResult result) throws ErrorException {
+        try {
+            while (!queue.offer(result, PUT_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!thread.isAlive()) {
+                    checkFailure();
+                    throw generateErrorException(ErrorCode.BAD_WRITING_FILE);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw generateErrorException(ErrorCode.INTERRUPTED_EXECUTION);
+        }
+    }
+
+    /**
+     * Writes the results of the queue until the end of the results, executed by the writer thread.
+     * After an error, the remaining results are only taken from the queue, so that no thread waits for the writer forever.
+     * If the thread stops anyway, the failure is recorded before it ends.
+     */
+    private void writeResults() {
+        boolean ended = false;
+        try {
+            ConversionResult result;
+            while ((result = queue.take()) != END_OF_RESULTS) {
+                if (failure == null) {
+                    writeResult(result);
+                }
+            }
+            ended = true;
+        } catch (InterruptedException e) {
+            failure = generateErrorException(ErrorCode.INTERRUPTED_EXECUTION);
+        } finally {
+            if (failure == null && !ended) {
+                failure = generateErrorException(ErrorCode.BAD_WRITING_FILE);
+            }
+        }
+    }
+
+    /**
+     * Writes the result passed as input, recording the error that stopped it, errors of the virtual machine included.
+     *
+     * @param result the result
+     */
+    private void writeResult(ConversionResult result) {
+        try {
+            long bytes = patchBundle != null ? appendPatch(result) : FileParserUtils.updateUserFile(result, outputMode, charset, fsync);
+            if (bytes >= 0) {
+                filesWritten.increment();
+                bytesWritten.add(bytes);
+            }
+        } catch (ErrorException e) {
+            failure = e;
+        } catch (Throwable e) {
+            failure = generateErrorException(ErrorCode.BAD_WRITING_FILE);
+        }
+    }
+
+    /**
+     * Appends the diff of the result passed as input to the patch bundle.
+     *
+     * @param result the result
+     * @return the number of bytes written, -1 if nothing was converted in the file
+     * @throws IOException the io exception
+     */
+    private long appendPatch(ConversionResult result) throws IOException {
+        if (!result.isChanged()) {
+            return -1;
+        }
+        return patchBundle.append(FileParserUtils.retrievePatchPath(result.getFile()), result.getSource());
+    }
+
+    /**
+     * Throws the first error found by the writer, if any.
+     *
+     * @throws ErrorException the error exception
+     */
+    private void checkFailure() throws ErrorException {
+        ErrorException error = failure;
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Waits until all the results handed over are written, then stops the writer thread.
+     * The patch bundle, if any, replaces the one of the previous run only if no error was found.
+     *
+     * @throws ErrorException the error exception
+     */
+    @Override
+    public void close() throws ErrorException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        put(END_OF_RESULTS);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw generateErrorException(ErrorCode.INTERRUPTED_EXECUTION);
+        }
+        commitPatchBundle();
+        checkFailure();
+    }
+
+    /**
+     * Commits the patch bundle if no error was found, otherwise discards it.
+     */
+    private void commitPatchBundle() {
+        if (patchBundle == null) {
+            return;
+        }
+        if (failure != null) {
+            patchBundle.abort();
+            return;
+        }
+        try {
+            patchBundle.commit();
+        } catch (IOException e) {
+            patchBundle.abort();
+            failure = generateErrorException(ErrorCode.BAD_WRITING_FILE);
+        }
+    }
+
+    /**
+     * Returns the number of files written so far.
+     *
+     * @return long
+     */
+    public long getFilesWritten() {
+        return filesWritten.sum();
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     *
+     * @return long
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Returns the highest number of results found waiting in the queue.
+     *
+     * @return int
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Returns the time spent waiting for room in the queue so far, in milliseconds.
+     *
+     * @return long
+     */
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum());
+    }
+
+    /**
+     * Returns a description of the writing work of the run.
+     *
+     * @return string
+     */
+    public String retrieveWritingReport() {
+        return "Output writer: " + getFilesWritten() + " files written (" + getBytesWritten() + " bytes), queue depth up to "
+                + getMaxQueueDepth() + " of " + capacity + ", " + getWaitMillis() + " ms waiting for the writer"
+                + (fsync ? ", fsync enabled" : "");
+    }
+}
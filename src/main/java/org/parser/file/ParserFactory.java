@@ -0,0 +1,141 @@
+package org.parser.file;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <h1> ParserFactory </h1>
+ * <p>
+ * This class hands out the parsers used by the application, in place of the global configuration of StaticJavaParser.
+ * Every thread gets its own JavaParser instance for each profile, created on first use and then reused for all its files:
+ * a JavaParser is not thread-safe, but reusing it avoids building a new parser and its buffers for every file.
+ */
+public final class ParserFactory {
+
+    /**
+     * The Java version accepted by all the parsers.
+     */
+    public static final ParserConfiguration.LanguageLevel LANGUAGE_LEVEL = ParserConfiguration.LanguageLevel.JAVA_8;
+
+    /**
+     * The configurations of the parsers, each one suited to a different use of the parsed code.
+     * The user files and the catalog are parsed with the same profile, since their nodes are compared with each other.
+     */
+    public enum Profile {
+        /**
+         * Code that is printed back, such as the user files and the iterative methods: comments are attributed to the nodes.
+         * The tokens must be stored as well, since the comments are attributed through the positions of the nodes.
+         */
+        SOURCE(true, true),
+        /**
+         * Code of which only the declarations and their positions are inspected, such as the skeleton of a user file:
+         * comments are not attributed. The tokens are still stored, since without them the nodes have no positions.
+         */
+        STRUCTURE(false, true);
+
+        private final boolean attributeComments;
+        private final boolean storeTokens;
+
+        Profile(boolean attributeComments, boolean storeTokens) {
+            this.attributeComments = attributeComments;
+            this.storeTokens = storeTokens;
+        }
+
+        /**
+         * Returns a new configuration of the profile.
+         *
+         * @return parser configuration
+         */
+        public ParserConfiguration createConfiguration() {
+            return new ParserConfiguration()
+                    .setLanguageLevel(LANGUAGE_LEVEL)
+                    .setAttributeComments(attributeComments)
+                    .setStoreTokens(storeTokens);
+        }
+    }
+
+    private static final Map<Profile, ThreadLocal<JavaParser>> PARSERS = createParsers();
+
+    private ParserFactory() {
+    }
+
+    /**
+     * Returns a thread-local parser for each profile.
+     *
+     * @return map
+     */
+    private static Map<Profile, ThreadLocal<JavaParser>> createParsers() {
+        Map<Profile, ThreadLocal<JavaParser>> parsers = new EnumMap<>(Profile.class);
+        for (Profile profile : Profile.values()) {
+            parsers.put(profile, ThreadLocal.withInitial(() -> new JavaParser(profile.createConfiguration())));
+        }
+        return parsers;
+    }
+
+    /**
+     * Returns the parser of the profile passed as input owned by the current thread, which must never be shared with other threads.
+     *
+     * @param profile the profile
+     * @return java parser
+     */
+    public static JavaParser retrieveParser(Profile profile) {
+        return PARSERS.get(profile).get();
+    }
+
+    /**
+     * Parses the file passed as input with the parser of the profile passed as input.
+     *
+     * @param profile the profile
+     * @param file    the file
+     * @return compilation unit
+     * @throws FileNotFoundException the file not found exception
+     */
+    public static CompilationUnit parse(Profile profile, File file) throws FileNotFoundException {
+        return handleResult(retrieveParser(profile).parse(file));
+    }
+
+    /**
+     * Parses the source code passed as input with the parser of the profile passed as input.
+     *
+     * @param profile the profile
+     * @param source  the source
+     * @return compilation unit
+     */
+    public static CompilationUnit parse(Profile profile, String source) {
+        return handleResult(retrieveParser(profile).parse(source));
+    }
+
+    /**
+     * Parses the method declaration passed as input with the parser of the profile passed as input.
+     *
+     * @param profile the profile
+     * @param method  the method
+     * @return method declaration
+     */
+    public static MethodDeclaration parseMethodDeclaration(Profile profile, String method) {
+        return handleResult(retrieveParser(profile).parseMethodDeclaration(method));
+    }
+
+    /**
+     * Returns the node parsed successfully, as done by StaticJavaParser, otherwise throws the problems found.
+     *
+     * @param result the result
+     * @param <N>    the type of the node
+     * @return the node
+     */
+    private static <N> N handleResult(ParseResult<N> result) {
+        if (result.isSuccessful() && result.getResult().isPresent()) {
+            return result.getResult().get();
+        }
+        throw new ParseProblemException(result.getProblems());
+    }
+}
@@ -0,0 +1,102 @@
+package org.parser.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <h1> PatchBundle </h1>
+ * <p>
+ * This class collects the diffs of all the converted user files in a single patch, which can be applied
+ * to the input folder with "git apply" or "patch -p1". The diffs are appended to a temporary file as soon as they are ready,
+ * and the temporary file replaces the patch of the previous run only when the bundle is committed.
+ * The diffs are encoded with the charset of the user files, so that their context lines match the bytes of the files they apply to.
+ * It is used by a single thread.
+ */
+public final class PatchBundle {
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final Charset charset;
+    private final boolean fsync;
+
+    /**
+     * Instantiates a new Patch bundle.
+     *
+     * @param target    the target
+     * @param temporary the temporary
+     * @param channel   the channel
+     * @param charset   the charset
+     * @param fsync     the fsync
+     */
+    private PatchBundle(Path target, Path temporary, FileChannel channel, Charset charset, boolean fsync) {
+        this.target = target;
+        this.temporary = temporary;
+        this.channel = channel;
+        this.charset = charset;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Opens a new bundle, which will replace the patch passed as input once committed.
+     *
+     * @param target  the target
+     * @param charset the charset of the user files
+     * @param fsync   whether the bundle is forced to the storage device before replacing the patch
+     * @return patch bundle
+     * @throws IOException the io exception
+     */
+    public static PatchBundle open(Path target, Charset charset, boolean fsync) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temporary = FileParserUtils.retrieveTemporaryPath(target);
+        return new PatchBundle(target, temporary, FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE),
+                charset, fsync);
+    }
+
+    /**
+     * Appends the diff of the user file whose path, relative to the input folder, is passed as input.
+     *
+     * @param relativePath the relative path
+     * @param hunks        the hunks
+     * @return the number of bytes appended
+     * @throws IOException the io exception
+     */
+    public long append(String relativePath, String hunks) throws IOException {
+        ByteBuffer buffer = charset.encode(UnifiedDiffPrinter.printHeader(relativePath) + hunks);
+        long bytes = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return bytes;
+    }
+
+    /**
+     * Closes the bundle and replaces the patch of the previous run with it.
+     *
+     * @throws IOException the io exception
+     */
+    public void commit() throws IOException {
+        try (FileChannel closing = channel) {
+            if (fsync) {
+                closing.force(true);
+            }
+        }
+        FileParserUtils.moveAtomically(temporary, target);
+    }
+
+    /**
+     * Closes the bundle and deletes it, leaving the patch of the previous run in place.
+     */
+    public void abort() {
+        try {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            // The error that stopped the bundle is the one reported.
+        }
+    }
+}
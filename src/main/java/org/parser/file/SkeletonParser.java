@@ -0,0 +1,240 @@
+package org.parser.file;
+
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.Position;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.parser.analysis.RecursionScanner;
+import org.parser.analysis.SourceScan;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.config.RunConfiguration;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * <h1> SkeletonParser </h1>
+ * <p>
+ * This class parses a user file in two steps, so that only the method bodies worth analyzing are turned into an AST.
+ * First the skeleton of the file is parsed, that is the source with the content of every method body replaced by blanks:
+ * it contains all the method headers, at the same positions as in the original source.
+ * Only the headers and their positions are read, so the skeleton is parsed without attributing the comments.
+ * Then the file is parsed again keeping only the bodies of the candidate recursive methods, found by the lexical scan,
+ * whose signature matches an algorithm of the catalog; the other bodies stay blank.
+ * Since the line separators are kept, every node has the same position it has in the original source.
+ * <p>
+ * The full output mode prints the whole file again, so it needs all the bodies: in that case there is no skeleton,
+ * the original source is parsed once and the methods that can be converted are looked for in the whole AST.
+ * The same instance is shared by all the threads of a run and counts the method bodies parsed.
+ */
+public final class SkeletonParser {
+    private final RecursionScanner scanner;
+    private final AlgorithmCatalog catalog;
+    private final LongAdder methodBodies = new LongAdder();
+    private final LongAdder parsedBodies = new LongAdder();
+    private final LongAdder skeletonOnlyFiles = new LongAdder();
+
+    /**
+     * Instantiates a new Skeleton parser.
+     *
+     * @param scanner the scanner
+     * @param catalog the catalog
+     */
+    public SkeletonParser(RecursionScanner scanner, AlgorithmCatalog catalog) {
+        this.scanner = scanner;
+        this.catalog = catalog;
+    }
+
+    /**
+     * Scans the source passed as input, looking for the candidate recursive methods and the bodies of the methods.
+     *
+     * @param source the source
+     * @return source scan
+     */
+    public SourceScan scan(String source) {
+        return scanner.scan(source);
+    }
+
+    /**
+     * Parses the user file passed as input, whose source has already been scanned.
+     * Nothing is returned if no method of the file can be converted, in which case only the skeleton was parsed,
+     * unless the output mode is the full one.
+     *
+     * @param file       the file
+     * @param source     the source
+     * @param scan       the scan
+     * @param outputMode the output mode
+     * @return optional
+     * @throws ErrorException the error exception
+     */
+    public Optional<ConversionContext> parse(File file, String source, SourceScan scan, RunConfiguration.OutputMode outputMode) throws ErrorException {
+        if (outputMode == RunConfiguration.OutputMode.FULL) {
+            return parseSource(file, source, scan);
+        }
+
+        List<int[]> bodies = scan.getMethodBodies();
+        Optional<Set<Integer>> keptBodies = retrieveKeptBodies(source, scan);
+        if (!keptBodies.isPresent()) {
+            return Optional.of(new ConversionContext(file, source, source, scan.getCandidateNames()));
+        }
+
+        methodBodies.add(bodies.size());
+        parsedBodies.add(keptBodies.get().size());
+        if (keptBodies.get().isEmpty()) {
+            skeletonOnlyFiles.increment();
+            return Optional.empty();
+        }
+
+        String parsedSource = blankBodies(source, bodies, body -> keptBodies.get().contains(body[0]));
+        return Optional.of(new ConversionContext(file, source, parsedSource, scan.getCandidateNames()));
+    }
+
+    /**
+     * Parses the whole source of the user file passed as input, as needed by the full output mode.
+     * Nothing is returned if no method of the file can be converted, according to the same rules used with the skeleton:
+     * a method is kept if it is a candidate whose signature matches an algorithm of the catalog, or if its body contains a candidate.
+     *
+     * @param file   the file
+     * @param source the source
+     * @param scan   the scan
+     * @return optional
+     * @throws ErrorException the error exception
+     */
+    private Optional<ConversionContext> parseSource(File file, String source, SourceScan scan) throws ErrorException {
+        ConversionContext context = new ConversionContext(file, source, source, scan.getCandidateNames());
+        List<int[]> bodies = scan.getMethodBodies();
+        methodBodies.add(bodies.size());
+        parsedBodies.add(bodies.size());
+
+        boolean convertible = bodies.stream().anyMatch(body -> scan.containsNestedCandidate(body[0]))
+                || context.getCompilationUnit().findAll(MethodDeclaration.class).stream().anyMatch(method -> isConvertible(method, scan));
+        if (!convertible) {
+            skeletonOnlyFiles.increment();
+            return Optional.empty();
+        }
+        return Optional.of(context);
+    }
+
+    /**
+     * Checks whether the method passed as input is a candidate recursive method whose signature matches an algorithm of the catalog.
+     *
+     * @param method the method
+     * @param scan   the scan
+     * @return boolean
+     */
+    private boolean isConvertible(MethodDeclaration method, SourceScan scan) {
+        return scan.getCandidateNames().contains(method.getNameAsString()) && !catalog.findCandidates(method).isEmpty();
+    }
+
+    /**
+     * Returns the first offset of the method bodies to be parsed, found through the skeleton of the source passed as input.
+     * Nothing is returned if the skeleton cannot be parsed or does not agree with the scan, in which case the whole source has to be parsed.
+     *
+     * @param source the source
+     * @param scan   the scan
+     * @return optional
+     */
+    private Optional<Set<Integer>> retrieveKeptBodies(String source, SourceScan scan) {
+        CompilationUnit skeleton;
+        try {
+            skeleton = ParserFactory.parse(ParserFactory.Profile.STRUCTURE, blankBodies(source, scan.getMethodBodies(), body -> false));
+        } catch (ParseProblemException e) {
+            return Optional.empty();
+        }
+
+        int[] lineStarts = MinimalSourcePrinter.retrieveLineStarts(source);
+        Set<Integer> bodyStarts = new HashSet<>();
+        Set<Integer> keptBodies = new HashSet<>();
+        for (int[] body : scan.getMethodBodies()) {
+            bodyStarts.add(body[0]);
+            if (scan.containsNestedCandidate(body[0])) {
+                keptBodies.add(body[0]);
+            }
+        }
+
+        for (MethodDeclaration method : skeleton.findAll(MethodDeclaration.class)) {
+            if (!isConvertible(method, scan)) {
+                continue;
+            }
+            Optional<Position> begin = method.getBody().flatMap(Node::getBegin);
+            if (!begin.isPresent()) {
+                continue;
+            }
+            int start = lineStarts[begin.get().line - 1] + begin.get().column - 1;
+            if (!bodyStarts.contains(start)) {
+                return Optional.empty();
+            }
+            keptBodies.add(start);
+        }
+        return Optional.of(keptBodies);
+    }
+
+    /**
+     * Returns the source passed as input with the content of the method bodies not selected by the filter replaced by blanks.
+     * The braces and the line separators are kept, so the length of the source and the position of every character do not change.
+     *
+     * @param source the source
+     * @param bodies the bodies
+     * @param kept   the filter of the bodies to be kept
+     * @return string
+     */
+    private static String blankBodies(String source, List<int[]> bodies, Predicate<int[]> kept) {
+        char[] characters = source.toCharArray();
+        for (int[] body : bodies) {
+            if (kept.test(body)) {
+                continue;
+            }
+            for (int i = body[0] + 1; i < body[1] - 1; i++) {
+                if (characters[i] != '\n' && characters[i] != '\r') {
+                    characters[i] = ' ';
+                }
+            }
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Returns the number of method bodies found in the files with candidate methods so far.
+     *
+     * @return long
+     */
+    public long getMethodBodies() {
+        return methodBodies.sum();
+    }
+
+    /**
+     * Returns the number of method bodies parsed so far.
+     *
+     * @return long
+     */
+    public long getParsedBodies() {
+        return parsedBodies.sum();
+    }
+
+    /**
+     * Returns the number of files in which none of the methods can be converted, which are left as they are.
+     * Except with the full output mode, only their skeleton was parsed.
+     *
+     * @return long
+     */
+    public long getSkeletonOnlyFiles() {
+        return skeletonOnlyFiles.sum();
+    }
+
+    /**
+     * Returns a description of the parsing work saved during the run.
+     *
+     * @return string
+     */
+    public String retrieveParseReport() {
+        return "Skeleton parse: " + getParsedBodies() + " of " + getMethodBodies() + " method bodies parsed, "
+                + getSkeletonOnlyFiles() + " files without convertible methods";
+    }
+}
@@ -0,0 +1,106 @@
+package org.parser.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h1> SortedFileWalker </h1>
+ * <p>
+ * This class walks a file tree depth-first and returns its regular files in the same order whatever the file system:
+ * the entries of each folder are sorted by name when the walk enters it, and a folder is entered when its turn comes.
+ * Only the entries of the folders on the path being walked are kept in memory, and no folder is left open between two files,
+ * so the first files are returned as soon as their folders are listed, however large the tree.
+ * As with Files.find, symbolic links are not followed.
+ */
+final class SortedFileWalker implements Iterator<Path> {
+    private final Deque<Iterator<Path>> folders = new ArrayDeque<>();
+    private Path next;
+
+    /**
+     * Instantiates a new Sorted file walker.
+     *
+     * @param root the root
+     * @throws IOException the io exception
+     */
+    private SortedFileWalker(Path root) throws IOException {
+        folders.push(listEntries(root));
+    }
+
+    /**
+     * Returns the regular files of the tree whose root is passed as input, folder by folder in the order of their names.
+     *
+     * @param root the root
+     * @return stream
+     * @throws IOException the io exception
+     */
+    static Stream<Path> walk(Path root) throws IOException {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new SortedFileWalker(root),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the entries of the folder passed as input, sorted by name.
+     *
+     * @param folder the folder
+     * @return iterator
+     * @throws IOException the io exception
+     */
+    private static Iterator<Path> listEntries(Path folder) throws IOException {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+            stream.forEach(entries::add);
+        }
+        Collections.sort(entries);
+        return entries.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (next == null && !folders.isEmpty()) {
+                Iterator<Path> entries = folders.peek();
+                if (!entries.hasNext()) {
+                    folders.pop();
+                    continue;
+                }
+
+                Path entry = entries.next();
+                BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (attributes.isDirectory()) {
+                    folders.push(listEntries(entry));
+                } else if (attributes.isRegularFile()) {
+                    next = entry;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return next != null;
+    }
+
+    @Override
+    public Path next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Path result = next;
+        next = null;
+        return result;
+    }
+}
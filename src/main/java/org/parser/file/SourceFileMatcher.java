@@ -0,0 +1,80 @@
+package org.parser.file;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h1> SourceFileMatcher </h1>
+ * <p>
+ * This class selects the user files to be converted through glob patterns, matched against the path of each file
+ * relative to the input folder (for example: "**&#47;*.java" or "legacy/**").
+ * A file is selected if it matches at least one include pattern and no exclude pattern.
+ * A pattern starting with "**&#47;" also matches the files placed directly in the input folder.
+ */
+public final class SourceFileMatcher {
+    private static final String ANY_DIRECTORY = "**/";
+
+    private final List<PathMatcher> includes;
+    private final List<PathMatcher> excludes;
+
+    /**
+     * Instantiates a new Source file matcher.
+     *
+     * @param includePatterns the include patterns
+     * @param excludePatterns the exclude patterns
+     */
+    public SourceFileMatcher(List<String> includePatterns, List<String> excludePatterns) {
+        this.includes = compilePatterns(includePatterns);
+        this.excludes = compilePatterns(excludePatterns);
+    }
+
+    /**
+     * Returns the matchers of the glob patterns passed as input.
+     *
+     * @param patterns the patterns
+     * @return list
+     */
+    private static List<PathMatcher> compilePatterns(List<String> patterns) {
+        FileSystem fileSystem = FileSystems.getDefault();
+        List<PathMatcher> matchers = new ArrayList<>();
+
+        for (String pattern : patterns) {
+            matchers.add(fileSystem.getPathMatcher("glob:" + pattern));
+            if (pattern.startsWith(ANY_DIRECTORY)) {
+                matchers.add(fileSystem.getPathMatcher("glob:" + pattern.substring(ANY_DIRECTORY.length())));
+            }
+        }
+        return Collections.unmodifiableList(matchers);
+    }
+
+    /**
+     * Checks whether the file, whose path relative to the input folder is passed as input, has to be converted.
+     *
+     * @param relativePath the relative path
+     * @return boolean
+     */
+    public boolean matches(Path relativePath) {
+        return matchesAny(includes, relativePath) && !matchesAny(excludes, relativePath);
+    }
+
+    /**
+     * Checks whether the path passed as input is matched by at least one of the matchers.
+     *
+     * @param matchers the matchers
+     * @param path     the path
+     * @return boolean
+     */
+    private static boolean matchesAny(List<PathMatcher> matchers, Path path) {
+        for (PathMatcher matcher : matchers) {
+            if (matcher.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,156 @@
+package org.parser.file;
+
+import org.parser.error.ErrorCode;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.parser.error.ErrorCode.generateErrorException;
+
+/**
+ * <h1> SourceReader </h1>
+ * <p>
+ * This class reads the user files and decodes them, once, with the charset of the run.
+ * A small file is read in bulk into a buffer owned by the current thread and reused for all its files,
+ * while a large file is memory-mapped, so that its content is never copied before being decoded.
+ * Malformed input is replaced, as done by the reader of the parser.
+ * <p>
+ * The same instance is shared by all the threads of a run and counts the bytes read and the time spent decoding them.
+ */
+public final class SourceReader {
+
+    /**
+     * The size above which a file is memory-mapped instead of being read into the buffer of the thread.
+     */
+    private static final int MAPPING_THRESHOLD = 256 * 1024;
+
+    private final Charset charset;
+    private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(MAPPING_THRESHOLD));
+    private final ThreadLocal<CharsetDecoder> decoders;
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder mappedFiles = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+
+    /**
+     * Instantiates a new Source reader.
+     *
+     * @param charset the charset
+     */
+    public SourceReader(Charset charset) {
+        this.charset = charset;
+        this.decoders = ThreadLocal.withInitial(() -> charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    }
+
+    /**
+     * Returns the content of the file passed as input.
+     *
+     * @param file the file
+     * @return string
+     * @throws ErrorException the error exception
+     */
+    public String read(File file) throws ErrorException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            bytesRead.add(size);
+
+            if (size > MAPPING_THRESHOLD) {
+                mappedFiles.increment();
+                return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            return decode(readIntoBuffer(channel));
+        } catch (IOException e) {
+            throw generateErrorException(ErrorCode.BAD_READING_FILE);
+        }
+    }
+
+    /**
+     * Reads the whole channel passed as input into the buffer of the current thread.
+     *
+     * @param channel the channel
+     * @return the buffer, ready to be read
+     * @throws IOException the io exception
+     */
+    private ByteBuffer readIntoBuffer(FileChannel channel) throws IOException {
+        ByteBuffer buffer = buffers.get();
+        buffer.clear();
+        while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+            // Keeps reading until the end of the file, which fits in the buffer.
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes the bytes passed as input with the charset of the reader.
+     *
+     * @param bytes the bytes
+     * @return string
+     * @throws CharacterCodingException the character coding exception
+     */
+    private String decode(ByteBuffer bytes) throws CharacterCodingException {
+        long start = System.nanoTime();
+        try {
+            return decoders.get().reset().decode(bytes).toString();
+        } finally {
+            decodeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the charset used to decode the files.
+     *
+     * @return charset
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return long
+     */
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    /**
+     * Returns the number of files memory-mapped so far.
+     *
+     * @return long
+     */
+    public long getMappedFiles() {
+        return mappedFiles.sum();
+    }
+
+    /**
+     * Returns the time spent decoding the files so far, in milliseconds.
+     *
+     * @return long
+     */
+    public long getDecodeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(decodeNanos.sum());
+    }
+
+    /**
+     * Returns a description of the reading work of the run.
+     *
+     * @return string
+     */
+    public String retrieveReadingReport() {
+        return "Source reader: " + getBytesRead() + " bytes read (" + getMappedFiles() + " files mapped), "
+                + getDecodeMillis() + " ms decoding " + charset.name();
+    }
+}
@@ -0,0 +1,258 @@
+package org.parser.file;
+
+import javafx.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h1> UnifiedDiffPrinter </h1>
+ * <p>
+ * This class describes the edits made to a user file as the hunks of a unified diff, with three lines of context,
+ * as printed by "diff -u". The hunks are computed from the edits themselves, so the cost depends on the number
+ * of replaced methods and not on the size of the file. Every line keeps its own line separator.
+ */
+public final class UnifiedDiffPrinter {
+    private static final int CONTEXT_LINES = 3;
+    private static final String NO_NEWLINE = "\\ No newline at end of file\n";
+
+    private UnifiedDiffPrinter() {
+    }
+
+    /**
+     * Returns the header of the diff of the file whose path, relative to the input folder, is passed as input.
+     *
+     * @param relativePath the relative path
+     * @return string
+     */
+    public static String printHeader(String relativePath) {
+        return "--- a/" + relativePath + "\n+++ b/" + relativePath + "\n";
+    }
+
+    /**
+     * Returns the hunks that turn the source passed as input into the one produced by the edits passed as input,
+     * sorted by position and not overlapping, or an empty string if the edits do not change anything.
+     *
+     * @param source the source
+     * @param edits  the edits
+     * @return string
+     */
+    public static String printHunks(String source, List<Pair<int[], String>> edits) {
+        int[] lineStarts = retrieveLineStarts(source);
+        List<Pair<int[], List<String>>> blocks = retrieveChangedBlocks(source, lineStarts, edits);
+        StringBuilder builder = new StringBuilder();
+        int delta = 0;
+        int index = 0;
+
+        while (index < blocks.size()) {
+            int last = index;
+            while (last + 1 < blocks.size()
+                    && blocks.get(last + 1).getKey()[0] - blocks.get(last).getKey()[1] - 1 <= 2 * CONTEXT_LINES) {
+                last++;
+            }
+            delta = printHunk(builder, source, lineStarts, blocks.subList(index, last + 1), delta);
+            index = last + 1;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Prints a single hunk, made of the blocks passed as input and of the context around them.
+     *
+     * @param builder    the builder
+     * @param source     the source
+     * @param lineStarts the line starts
+     * @param blocks     the blocks
+     * @param delta      the difference between the new and the original line numbers before the hunk
+     * @return the difference between the new and the original line numbers after the hunk
+     */
+    private static int printHunk(StringBuilder builder, String source, int[] lineStarts, List<Pair<int[], List<String>>> blocks, int delta) {
+        int oldStart = Math.max(0, blocks.get(0).getKey()[0] - CONTEXT_LINES);
+        int oldEnd = Math.min(lineStarts.length - 1, blocks.get(blocks.size() - 1).getKey()[1] + CONTEXT_LINES);
+        StringBuilder lines = new StringBuilder();
+        int oldCount = 0;
+        int newCount = 0;
+        int line = oldStart;
+
+        for (Pair<int[], List<String>> block : blocks) {
+            for (; line < block.getKey()[0]; line++, oldCount++, newCount++) {
+                appendLine(lines, ' ', retrieveLine(source, lineStarts, line));
+            }
+            for (; line <= block.getKey()[1]; line++, oldCount++) {
+                appendLine(lines, '-', retrieveLine(source, lineStarts, line));
+            }
+            for (String newLine : block.getValue()) {
+                appendLine(lines, '+', newLine);
+                newCount++;
+            }
+        }
+        for (; line <= oldEnd; line++, oldCount++, newCount++) {
+            appendLine(lines, ' ', retrieveLine(source, lineStarts, line));
+        }
+
+        builder.append("@@ -").append(printRange(oldStart, oldCount))
+                .append(" +").append(printRange(oldStart + delta, newCount))
+                .append(" @@\n").append(lines);
+        return delta + newCount - oldCount;
+    }
+
+    /**
+     * Returns the range of a hunk: the first line, counted from one, and the number of lines.
+     * An empty range refers to the line before it, as done by "diff -u".
+     *
+     * @param start the first line, counted from zero
+     * @param count the count
+     * @return string
+     */
+    private static String printRange(int start, int count) {
+        return (count == 0 ? start : start + 1) + "," + count;
+    }
+
+    /**
+     * Appends a line of a hunk, marking the line that ends the file without a line separator.
+     *
+     * @param builder the builder
+     * @param prefix  the prefix
+     * @param line    the line
+     */
+    private static void appendLine(StringBuilder builder, char prefix, String line) {
+        builder.append(prefix).append(line);
+        if (!line.endsWith("\n") && !line.endsWith("\r")) {
+            builder.append('\n').append(NO_NEWLINE);
+        }
+    }
+
+    /**
+     * Returns the blocks of whole lines changed by the edits passed as input: the first and the last original line,
+     * counted from zero, and the new lines. Edits that touch the same line belong to the same block,
+     * and the lines left unchanged at the beginning and at the end of a block are not part of it.
+     *
+     * @param source     the source
+     * @param lineStarts the line starts
+     * @param edits      the edits
+     * @return list
+     */
+    private static List<Pair<int[], List<String>>> retrieveChangedBlocks(String source, int[] lineStarts, List<Pair<int[], String>> edits) {
+        List<Pair<int[], List<String>>> blocks = new ArrayList<>();
+        int index = 0;
+
+        while (index < edits.size()) {
+            int firstLine = retrieveLine(lineStarts, edits.get(index).getKey()[0]);
+            int lastLine = retrieveLastLine(lineStarts, edits.get(index).getKey());
+            int last = index;
+            while (last + 1 < edits.size() && retrieveLine(lineStarts, edits.get(last + 1).getKey()[0]) <= lastLine) {
+                last++;
+                lastLine = Math.max(lastLine, retrieveLastLine(lineStarts, edits.get(last).getKey()));
+            }
+
+            int blockStart = lineStarts[firstLine];
+            int blockEnd = retrieveLineEnd(source, lineStarts, lastLine);
+            StringBuilder newText = new StringBuilder();
+            int offset = blockStart;
+            for (Pair<int[], String> edit : edits.subList(index, last + 1)) {
+                newText.append(source, offset, edit.getKey()[0]).append(edit.getValue());
+                offset = edit.getKey()[1];
+            }
+            newText.append(source, offset, blockEnd);
+
+            List<String> oldLines = splitLines(source.substring(blockStart, blockEnd));
+            List<String> newLines = splitLines(newText.toString());
+            while (!oldLines.isEmpty() && !newLines.isEmpty() && oldLines.get(0).equals(newLines.get(0))) {
+                oldLines.remove(0);
+                newLines.remove(0);
+                firstLine++;
+            }
+            while (!oldLines.isEmpty() && !newLines.isEmpty()
+                    && oldLines.get(oldLines.size() - 1).equals(newLines.get(newLines.size() - 1))) {
+                oldLines.remove(oldLines.size() - 1);
+                newLines.remove(newLines.size() - 1);
+                lastLine--;
+            }
+            if (!oldLines.isEmpty() || !newLines.isEmpty()) {
+                blocks.add(new Pair<>(new int[]{firstLine, lastLine}, newLines));
+            }
+            index = last + 1;
+        }
+        return blocks;
+    }
+
+    /**
+     * Returns the offset of the first character of each line of the source passed as input.
+     * The empty text after the last line separator is not a line.
+     *
+     * @param source the source
+     * @return int [ ]
+     */
+    private static int[] retrieveLineStarts(String source) {
+        int[] lineStarts = MinimalSourcePrinter.retrieveLineStarts(source);
+        if (lineStarts.length > 1 && lineStarts[lineStarts.length - 1] == source.length()) {
+            return Arrays.copyOf(lineStarts, lineStarts.length - 1);
+        }
+        return lineStarts;
+    }
+
+    /**
+     * Returns the line, counted from zero, containing the offset passed as input.
+     *
+     * @param lineStarts the line starts
+     * @param offset     the offset
+     * @return int
+     */
+    private static int retrieveLine(int[] lineStarts, int offset) {
+        int position = Arrays.binarySearch(lineStarts, offset);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    /**
+     * Returns the last line, counted from zero, touched by the offsets passed as input.
+     *
+     * @param lineStarts the line starts
+     * @param offsets    the offsets
+     * @return int
+     */
+    private static int retrieveLastLine(int[] lineStarts, int[] offsets) {
+        return retrieveLine(lineStarts, Math.max(offsets[0], offsets[1] - 1));
+    }
+
+    /**
+     * Returns the offset following the line passed as input, its line separator included.
+     *
+     * @param source     the source
+     * @param lineStarts the line starts
+     * @param line       the line
+     * @return int
+     */
+    private static int retrieveLineEnd(String source, int[] lineStarts, int line) {
+        return line + 1 < lineStarts.length ? lineStarts[line + 1] : source.length();
+    }
+
+    /**
+     * Returns the line passed as input, its line separator included.
+     *
+     * @param source     the source
+     * @param lineStarts the line starts
+     * @param line       the line
+     * @return string
+     */
+    private static String retrieveLine(String source, int[] lineStarts, int line) {
+        return source.substring(lineStarts[line], retrieveLineEnd(source, lineStarts, line));
+    }
+
+    /**
+     * Returns the lines of the text passed as input, each one with its own line separator.
+     *
+     * @param text the text
+     * @return list
+     */
+    private static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<>();
+        int[] lineStarts = retrieveLineStarts(text);
+        for (int line = 0; line < lineStarts.length; line++) {
+            if (lineStarts[line] < text.length()) {
+                lines.add(retrieveLine(text, lineStarts, line));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,71 @@
+package org.parser;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.parser.analysis.MethodMatcher;
+import org.parser.analysis.RecursionScanner;
+import org.parser.cache.ResultCache;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.config.RunConfiguration;
+import org.parser.diagnostic.Diagnostics;
+import org.parser.error.ErrorException;
+import org.parser.file.ConversionResult;
+import org.parser.file.SkeletonParser;
+import org.parser.file.SourceReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the conversion of the sample user file, whose output must stay byte-identical to the expected one.
+ */
+public class ConversionRegressionTest {
+    private static AlgorithmCatalog catalog;
+
+    /**
+     * Loads the catalog of the project and turns off the diagnostics.
+     *
+     * @throws ErrorException the error exception
+     */
+    @BeforeClass
+    public static void setUp() throws ErrorException {
+        catalog = AlgorithmCatalog.load(new File("algorithms"));
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.OFF);
+    }
+
+    /**
+     * Restores the printing of the diagnostics.
+     */
+    @AfterClass
+    public static void tearDown() {
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.PRINT);
+    }
+
+    /**
+     * The sample user file is converted, with the full output mode, exactly as it was before the matching and the parsing were optimized.
+     *
+     * @throws ErrorException     the error exception
+     * @throws IOException        the io exception
+     * @throws URISyntaxException the uri syntax exception
+     */
+    @Test
+    public void shouldConvertTheSampleUserFileAsExpected() throws ErrorException, IOException, URISyntaxException {
+        String expected = new String(Files.readAllBytes(Paths.get(getClass().getResource("/expected/UserClass.java").toURI())),
+                StandardCharsets.UTF_8);
+
+        ConversionResult result = App.processUserFile(new File("userCode/UserClass.java"), new SourceReader(StandardCharsets.UTF_8),
+                new SkeletonParser(new RecursionScanner(), catalog), new MethodMatcher(catalog), ResultCache.disabled(),
+                RunConfiguration.OutputMode.FULL);
+
+        assertTrue(result.isChanged());
+        assertEquals(expected, result.getSource());
+    }
+}
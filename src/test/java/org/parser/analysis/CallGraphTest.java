@@ -0,0 +1,129 @@
+package org.parser.analysis;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for CallGraph.
+ */
+public class CallGraphTest {
+
+    /**
+     * Returns the graph of the calls found by the scan of the source passed as input.
+     *
+     * @param source the source
+     * @return call graph
+     */
+    private static CallGraph buildGraph(String source) {
+        return CallGraph.of(new RecursionScanner().scan(source).getCalls());
+    }
+
+    /**
+     * A method calling itself is directly recursive, a method calling it is not recursive at all.
+     */
+    @Test
+    public void shouldClassifyDirectRecursion() {
+        CallGraph graph = buildGraph("class A {\n"
+                + "    int factorial(int n) { return n == 0 ? 1 : n * factorial(n - 1); }\n"
+                + "    int caller(int n) { return factorial(n); }\n"
+                + "}\n");
+
+        assertEquals(CallGraph.Recursion.DIRECT, graph.classify("factorial/1"));
+        assertTrue(graph.callsItself("factorial/1"));
+        assertTrue(graph.retrieveCycle("factorial/1").isEmpty());
+        assertEquals(CallGraph.Recursion.NONE, graph.classify("caller/1"));
+        assertFalse(graph.callsItself("caller/1"));
+    }
+
+    /**
+     * Methods calling each other are mutually recursive, and each one belongs to the cycle of the other ones,
+     * even if no method of the file calls itself, so that the scan finds no candidate and no body is ever parsed.
+     */
+    @Test
+    public void shouldClassifyMutualRecursion() {
+        SourceScan scan = new RecursionScanner().scan("class A {\n"
+                + "    boolean isEven(int n) { return n == 0 || isOdd(n - 1); }\n"
+                + "    boolean isOdd(int n) { return n != 0 && isEven(n - 1); }\n"
+                + "    int other(int n) { return n; }\n"
+                + "}\n");
+        CallGraph graph = CallGraph.of(scan.getCalls());
+
+        assertFalse(scan.hasCandidates());
+        assertEquals(CallGraph.Recursion.MUTUAL, graph.classify("isEven/1"));
+        assertEquals(CallGraph.Recursion.MUTUAL, graph.classify("isOdd/1"));
+        assertFalse(graph.callsItself("isEven/1"));
+        assertEquals(Collections.singletonList("isOdd/1"), graph.retrieveCycle("isEven/1"));
+        assertEquals(CallGraph.Recursion.NONE, graph.classify("other/1"));
+    }
+
+    /**
+     * A method that calls itself and also belongs to a larger cycle is mutually recursive, although it calls itself.
+     */
+    @Test
+    public void shouldPreferMutualRecursionToDirectRecursion() {
+        CallGraph graph = buildGraph("class A {\n"
+                + "    int first(int n) { return n == 0 ? 0 : first(n - 1) + second(n - 1); }\n"
+                + "    int second(int n) { return first(n); }\n"
+                + "}\n");
+
+        assertEquals(CallGraph.Recursion.MUTUAL, graph.classify("first/1"));
+        assertTrue(graph.callsItself("first/1"));
+    }
+
+    /**
+     * Overloaded methods with the same number of parameters share the same node, so a call between them counts as a call of the method itself,
+     * while an overload with a different number of parameters is a node of its own.
+     * Commas within the type arguments of a parameter or within a nested call do not count.
+     */
+    @Test
+    public void shouldShareTheNodeOfOverloadsWithTheSameArity() {
+        CallGraph graph = buildGraph("class A {\n"
+                + "    void print(int value) { print(String.valueOf(value)); }\n"
+                + "    void print(String value) { System.out.println(value); }\n"
+                + "    void print(Map<String, Integer> values, int times) { print(String.join(\",\", values.keySet())); }\n"
+                + "}\n");
+
+        assertEquals(CallGraph.Recursion.DIRECT, graph.classify("print/1"));
+        assertTrue(graph.callsItself("print/1"));
+        assertEquals(CallGraph.Recursion.NONE, graph.classify("print/2"));
+        assertFalse(graph.callsItself("print/2"));
+    }
+
+    /**
+     * A call within a nested method is made by the enclosing method as well, while the creation of an object is not a call.
+     */
+    @Test
+    public void shouldAttributeNestedCallsToTheEnclosingMethods() {
+        CallGraph graph = buildGraph("class A {\n"
+                + "    int walk(int n) { return new Object() { int step() { return back(n); } }.step(); }\n"
+                + "    int back(int n) { return walk(n - 1); }\n"
+                + "    Object create() { return new A(); }\n"
+                + "    A() { create(); }\n"
+                + "}\n");
+
+        assertEquals(CallGraph.Recursion.MUTUAL, graph.classify("walk/1"));
+        assertEquals(Arrays.asList("step/0", "back/1"), graph.retrieveCycle("walk/1"));
+        assertEquals(CallGraph.Recursion.NONE, graph.classify("create/0"));
+    }
+
+    /**
+     * A method that is not declared in the file is not recursive, and the calls to it are ignored.
+     */
+    @Test
+    public void shouldIgnoreMethodsOutsideTheGraph() {
+        CallGraph graph = buildGraph("class A {\n"
+                + "    int count(int n) { return n == 0 ? 0 : Math.max(count(n - 1), 0); }\n"
+                + "}\n");
+
+        assertEquals(CallGraph.Recursion.NONE, graph.classify("max/2"));
+        assertFalse(graph.callsItself("max/2"));
+        assertTrue(graph.retrieveCycle("max/2").isEmpty());
+        assertEquals(CallGraph.Recursion.DIRECT, graph.classify("count/1"));
+    }
+}
@@ -0,0 +1,114 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.junit.Test;
+import org.parser.error.ErrorException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for MatchingPipeline.
+ */
+public class MatchingPipelineTest {
+
+    /**
+     * Returns the number contained in the name of the method passed as input.
+     *
+     * @param method the method
+     * @return int
+     */
+    private static int retrieveNumber(MethodDeclaration method) {
+        return Integer.parseInt(method.getNameAsString().substring(1));
+    }
+
+    /**
+     * The stages are sorted by their rank while the pairs are examined, but a pair is rejected if and only if one of the stages rejects it,
+     * whatever the order: a slow stage that never rejects ends up last, after the cheap stages that reject.
+     *
+     * @throws ErrorException the error exception
+     */
+    @Test
+    public void shouldKeepTheVerdictsWhileReordering() throws ErrorException {
+        MatchingStage slow = new MatchingStage("slow", (user, recursive) -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            return false;
+        });
+        MatchingStage multiplesOfThree = new MatchingStage("three", (user, recursive) -> retrieveNumber(user) % 3 == 0);
+        MatchingStage multiplesOfFive = new MatchingStage("five", (user, recursive) -> retrieveNumber(user) % 5 == 0);
+        MatchingPipeline pipeline = new MatchingPipeline(Arrays.asList(slow, multiplesOfThree, multiplesOfFive));
+        MethodDeclaration recursive = new MethodDeclaration().setName("recursive");
+        List<List<MatchingStage>> orders = new ArrayList<>();
+
+        for (int i = 1; i <= 300; i++) {
+            MethodDeclaration user = new MethodDeclaration().setName("m" + i);
+            MatchingStage rejecting = pipeline.findRejectingStage(user, recursive);
+
+            if (i % 3 == 0 || i % 5 == 0) {
+                assertTrue(rejecting == multiplesOfThree || rejecting == multiplesOfFive);
+                assertTrue(rejecting.rejects(user, recursive));
+            } else {
+                assertNull(rejecting);
+            }
+            if (!orders.contains(pipeline.getOrder())) {
+                orders.add(pipeline.getOrder());
+            }
+        }
+
+        assertEquals(300, pipeline.getExaminedPairs());
+        assertEquals(0, slow.getRejections());
+        assertTrue(orders.size() > 1);
+        assertSame(slow, pipeline.getOrder().get(2));
+    }
+
+    /**
+     * Until the pipeline has examined enough pairs to measure its stages, they run in the order in which they are given.
+     *
+     * @throws ErrorException the error exception
+     */
+    @Test
+    public void shouldStartWithTheGivenOrder() throws ErrorException {
+        MatchingStage first = new MatchingStage("first", (user, recursive) -> true);
+        MatchingStage second = new MatchingStage("second", (user, recursive) -> true);
+        MatchingPipeline pipeline = new MatchingPipeline(Arrays.asList(first, second));
+        MethodDeclaration method = new MethodDeclaration().setName("m1");
+
+        assertSame(first, pipeline.findRejectingStage(method, method));
+        assertEquals(Arrays.asList(first, second), pipeline.getOrder());
+        assertEquals(0, second.getEvaluations());
+    }
+
+    /**
+     * A pinned stage keeps running first and examines every pair, even when it is the slowest stage and never rejects.
+     *
+     * @throws ErrorException the error exception
+     */
+    @Test
+    public void shouldKeepThePinnedStagesFirst() throws ErrorException {
+        MatchingStage slow = new MatchingStage("slow", (user, recursive) -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            return false;
+        });
+        MatchingStage multiplesOfThree = new MatchingStage("three", (user, recursive) -> retrieveNumber(user) % 3 == 0);
+        MatchingStage multiplesOfFive = new MatchingStage("five", (user, recursive) -> retrieveNumber(user) % 5 == 0);
+        MatchingPipeline pipeline = new MatchingPipeline(Arrays.asList(slow, multiplesOfFive, multiplesOfThree), 1);
+        MethodDeclaration recursive = new MethodDeclaration().setName("recursive");
+
+        for (int i = 1; i <= 300; i++) {
+            pipeline.findRejectingStage(new MethodDeclaration().setName("m" + i), recursive);
+            assertSame(slow, pipeline.getOrder().get(0));
+        }
+
+        assertEquals(300, slow.getEvaluations());
+        assertEquals(3, pipeline.getOrder().size());
+        assertTrue(pipeline.getOrder().containsAll(Arrays.asList(multiplesOfThree, multiplesOfFive)));
+    }
+}
@@ -0,0 +1,128 @@
+package org.parser.analysis;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for RecursionScanner.
+ */
+public class RecursionScannerTest {
+
+    private final RecursionScanner scanner = new RecursionScanner();
+
+    /**
+     * A method calling itself within its body is a candidate.
+     */
+    @Test
+    public void shouldFindDirectCalls() {
+        SourceScan scan = scanner.scan("class A {\n"
+                + "    int sum(int n) {\n"
+                + "        if (n > 0) {\n"
+                + "            return n + sum(n - 1);\n"
+                + "        }\n"
+                + "        return 0;\n"
+                + "    }\n"
+                + "    int other(int n) { return sum(n); }\n"
+                + "}\n");
+
+        assertEquals(Collections.singleton("sum"), scan.getCandidateNames());
+        assertEquals(2, scan.getMethodBodies().size());
+    }
+
+    /**
+     * Calls written in comments are not calls.
+     */
+    @Test
+    public void shouldSkipComments() {
+        SourceScan scan = scanner.scan("class A {\n"
+                + "    int sum(int n) {\n"
+                + "        // return sum(n - 1);\n"
+                + "        /* sum(n - 1) */\n"
+                + "        /** sum(n - 1) */\n"
+                + "        return n;\n"
+                + "    }\n"
+                + "}\n");
+
+        assertFalse(scan.hasCandidates());
+        assertEquals(1, scan.getMethodBodies().size());
+    }
+
+    /**
+     * Calls written in string and character literals are not calls, escaped quotes included.
+     */
+    @Test
+    public void shouldSkipLiterals() {
+        SourceScan scan = scanner.scan("class A {\n"
+                + "    String name(char c) {\n"
+                + "        String text = \"name(c) \\\" name(c)\";\n"
+                + "        char quote = '\\'';\n"
+                + "        return text + quote + '(' + \"name(\";\n"
+                + "    }\n"
+                + "}\n");
+
+        assertFalse(scan.hasCandidates());
+    }
+
+    /**
+     * A method declared within the body of another method, for example in an anonymous class, is scanned as well,
+     * and the body of the enclosing method is marked as containing a nested candidate.
+     */
+    @Test
+    public void shouldFindCandidatesInNestedBodies() {
+        String source = "class A {\n"
+                + "    void outer() {\n"
+                + "        Runnable task = new Runnable() {\n"
+                + "            public void run() { run(); }\n"
+                + "        };\n"
+                + "    }\n"
+                + "    void plain() { outer(); }\n"
+                + "}\n";
+        SourceScan scan = scanner.scan(source);
+        List<int[]> bodies = scan.getMethodBodies();
+
+        assertEquals(Collections.singleton("run"), scan.getCandidateNames());
+        assertEquals(2, bodies.size());
+        assertTrue(scan.containsNestedCandidate(bodies.get(0)[0]));
+        assertFalse(scan.containsNestedCandidate(bodies.get(1)[0]));
+    }
+
+    /**
+     * The bodies start at their open brace and end right after their close brace, while the blocks of statements are not bodies.
+     */
+    @Test
+    public void shouldFindTheOffsetsOfTheBodies() {
+        String source = "class A {\n"
+                + "    int max(int[] a, int i) throws Exception {\n"
+                + "        for (int j = 0; j < i; j++) { synchronized (a) { } }\n"
+                + "        return i == 0 ? a[0] : Math.max(a[i], max(a, i - 1));\n"
+                + "    }\n"
+                + "    abstract void declared();\n"
+                + "}\n";
+        SourceScan scan = scanner.scan(source);
+        int[] body = scan.getMethodBodies().get(0);
+
+        assertEquals(Collections.singleton("max"), scan.getCandidateNames());
+        assertEquals(1, scan.getMethodBodies().size());
+        assertEquals(source.indexOf("{\n        for"), body[0]);
+        assertEquals(source.indexOf("}\n    abstract") + 1, body[1]);
+    }
+
+    /**
+     * The scanner counts the files without candidates.
+     */
+    @Test
+    public void shouldCountSkippedFiles() {
+        RecursionScanner counting = new RecursionScanner();
+        counting.scan("class A { int f(int n) { return f(n); } }");
+        counting.scan("class B { int g(int n) { return n; } }");
+
+        assertEquals(2, counting.getScannedFiles());
+        assertEquals(1, counting.getSkippedFiles());
+    }
+}
@@ -0,0 +1,198 @@
+package org.parser.analysis;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.SimpleName;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.parser.catalog.AlgorithmCatalog;
+import org.parser.catalog.AlgorithmEntry;
+import org.parser.config.RunConfiguration;
+import org.parser.diagnostic.Diagnostics;
+import org.parser.error.ErrorException;
+import org.parser.file.ParserFactory;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertTrue;
+import static org.parser.analysis.AnalysisMethod.checkMethodSignature;
+import static org.parser.analysis.AnalysisMethod.checkRecursiveCallArguments;
+import static org.parser.analysis.AnalysisMethod.compareSizeLists;
+import static org.parser.analysis.AnalysisRecursiveMethod.getRecursiveMethodCall;
+import static org.parser.analysis.AnalysisStatementConstructs.retrieveAllConstructs;
+
+/**
+ * Unit test for StructuralFingerprint: the fingerprint must never reject a pair of methods that the detailed comparison accepts.
+ * The user methods are the recursive methods of the catalog with their variables renamed, together with copies in which
+ * a single operator or integer literal is changed, and the recursive methods of the sample user file.
+ */
+public class StructuralFingerprintTest {
+    private static final Map<BinaryExpr.Operator, BinaryExpr.Operator> NEAR_OPERATORS = new EnumMap<>(BinaryExpr.Operator.class);
+
+    private static AlgorithmCatalog catalog;
+
+    /**
+     * Loads the catalog of the project and turns off the diagnostics of the rejected comparisons.
+     *
+     * @throws ErrorException the error exception
+     */
+    @BeforeClass
+    public static void setUp() throws ErrorException {
+        NEAR_OPERATORS.put(BinaryExpr.Operator.LESS, BinaryExpr.Operator.LESS_EQUALS);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.LESS_EQUALS, BinaryExpr.Operator.LESS);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.GREATER, BinaryExpr.Operator.GREATER_EQUALS);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.GREATER_EQUALS, BinaryExpr.Operator.GREATER);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.EQUALS, BinaryExpr.Operator.NOT_EQUALS);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.NOT_EQUALS, BinaryExpr.Operator.EQUALS);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.PLUS, BinaryExpr.Operator.MINUS);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.MINUS, BinaryExpr.Operator.PLUS);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.MULTIPLY, BinaryExpr.Operator.DIVIDE);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.DIVIDE, BinaryExpr.Operator.MULTIPLY);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.AND, BinaryExpr.Operator.OR);
+        NEAR_OPERATORS.put(BinaryExpr.Operator.OR, BinaryExpr.Operator.AND);
+
+        catalog = AlgorithmCatalog.load(new File("algorithms"));
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.OFF);
+    }
+
+    /**
+     * Restores the printing of the diagnostics.
+     */
+    @AfterClass
+    public static void tearDown() {
+        Diagnostics.configure(RunConfiguration.DiagnosticLevel.PRINT);
+    }
+
+    /**
+     * Checks whether the detailed comparison, that is every check of the matcher but the fingerprint, accepts the two methods.
+     *
+     * @param user      the user
+     * @param recursive the recursive
+     * @return boolean
+     * @throws ErrorException the error exception
+     */
+    private static boolean isAcceptedByAnalyzers(MethodDeclaration user, MethodDeclaration recursive) throws ErrorException {
+        if (!checkMethodSignature(user, recursive) || compareSizeLists(user, recursive)) {
+            return false;
+        }
+        for (AnalysisMethod construct : retrieveAllConstructs()) {
+            if (construct.checkStatementList(user, recursive)) {
+                return false;
+            }
+        }
+        return !checkRecursiveCallArguments(user, recursive);
+    }
+
+    /**
+     * Returns a copy of the method passed as input, in which the formal parameters and the local variables are renamed.
+     *
+     * @param method the method
+     * @return method declaration
+     */
+    private static MethodDeclaration renameVariables(MethodDeclaration method) {
+        MethodDeclaration copy = method.clone();
+        Set<String> names = new HashSet<>();
+        copy.getParameters().forEach(parameter -> names.add(parameter.getNameAsString()));
+        copy.findAll(VariableDeclarator.class).forEach(variable -> names.add(variable.getNameAsString()));
+
+        for (SimpleName name : copy.findAll(SimpleName.class)) {
+            boolean isVariable = name.getParentNode()
+                    .filter(parent -> parent instanceof NameExpr || parent instanceof Parameter || parent instanceof VariableDeclarator)
+                    .isPresent();
+            if (isVariable && names.contains(name.getIdentifier())) {
+                name.setIdentifier(name.getIdentifier() + "Renamed");
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the user methods compared with the catalog: for every recursive method of the catalog, a renamed copy and the copies
+     * in which a single operator or integer literal is changed, followed by the recursive methods of the sample user file.
+     *
+     * @return list
+     * @throws FileNotFoundException the file not found exception
+     */
+    private static List<MethodDeclaration> retrieveUserMethods() throws FileNotFoundException {
+        List<MethodDeclaration> methods = new ArrayList<>();
+
+        for (AlgorithmEntry entry : catalog.getEntries()) {
+            MethodDeclaration renamed = renameVariables(entry.getRecursiveMethod());
+            methods.add(renamed);
+
+            int binaryCount = renamed.findAll(BinaryExpr.class).size();
+            for (int i = 0; i < binaryCount; i++) {
+                MethodDeclaration copy = renamed.clone();
+                BinaryExpr binary = copy.findAll(BinaryExpr.class).get(i);
+                if (NEAR_OPERATORS.containsKey(binary.getOperator())) {
+                    binary.setOperator(NEAR_OPERATORS.get(binary.getOperator()));
+                    methods.add(copy);
+                }
+            }
+
+            int literalCount = renamed.findAll(IntegerLiteralExpr.class).size();
+            for (int i = 0; i < literalCount; i++) {
+                MethodDeclaration copy = renamed.clone();
+                IntegerLiteralExpr literal = copy.findAll(IntegerLiteralExpr.class).get(i);
+                literal.setValue(String.valueOf(literal.asNumber().intValue() + 1));
+                methods.add(copy);
+            }
+        }
+
+        methods.addAll(ParserFactory.parse(ParserFactory.Profile.SOURCE, new File("userCode/UserClass.java"))
+                .findAll(MethodDeclaration.class));
+        methods.removeIf(method -> getRecursiveMethodCall(method) == null);
+        return methods;
+    }
+
+    /**
+     * Every pair accepted by the detailed comparison has compatible fingerprints, and every recursive method of the catalog
+     * accepts its renamed copy, so that the property is checked on at least one accepted pair for each algorithm.
+     *
+     * @throws ErrorException        the error exception
+     * @throws FileNotFoundException the file not found exception
+     */
+    @Test
+    public void shouldNeverRejectAPairAcceptedByTheAnalyzers() throws ErrorException, FileNotFoundException {
+        List<MethodDeclaration> userMethods = retrieveUserMethods();
+
+        for (AlgorithmEntry entry : catalog.getEntries()) {
+            MethodDeclaration recursive = entry.getRecursiveMethod();
+            assertTrue(entry.getName() + " must accept its renamed copy",
+                    isAcceptedByAnalyzers(renameVariables(recursive), recursive));
+
+            for (MethodDeclaration user : userMethods) {
+                if (isAcceptedByAnalyzers(user, recursive)) {
+                    assertTrue(entry.getName() + " is accepted but rejected by the fingerprint: " + user.getDeclarationAsString(),
+                            StructuralFingerprint.of(user).isCompatible(StructuralFingerprint.of(recursive)));
+                }
+            }
+        }
+    }
+
+    /**
+     * The fingerprint is kept in the method until it is invalidated.
+     */
+    @Test
+    public void shouldKeepTheFingerprintUntilInvalidated() {
+        MethodDeclaration method = renameVariables(catalog.getEntries().get(0).getRecursiveMethod());
+        StructuralFingerprint fingerprint = StructuralFingerprint.of(method);
+
+        assertTrue(fingerprint == StructuralFingerprint.of(method));
+        StructuralFingerprint.invalidate(method);
+        assertTrue(fingerprint != StructuralFingerprint.of(method));
+        assertTrue(fingerprint.isCompatible(StructuralFingerprint.of(method)));
+    }
+}
@@ -0,0 +1,149 @@
+package org.parser.file;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.type.PrimitiveType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Unit test for MinimalSourcePrinter.
+ */
+public class MinimalSourcePrinterTest {
+
+    /**
+     * Returns the methods declared in the source passed as input, parsed as the user files are.
+     *
+     * @param source the source
+     * @return list
+     */
+    private static List<MethodDeclaration> parseMethods(String source) {
+        return ParserFactory.parse(ParserFactory.Profile.SOURCE, source).findAll(MethodDeclaration.class);
+    }
+
+    /**
+     * Records the replacement of the method passed as input, then gives it the body passed as input.
+     *
+     * @param method the method
+     * @param body   the body
+     * @return method replacement
+     */
+    private static MethodReplacement replace(MethodDeclaration method, String body) {
+        MethodReplacement replacement = new MethodReplacement(method);
+        method.setBody(StaticJavaParser.parseBlock(body));
+        return replacement;
+    }
+
+    /**
+     * Lines end with "\r\n", "\r" or "\n", and a "\r\n" counts as a single separator.
+     */
+    @Test
+    public void shouldFindTheLineStartsWithEveryLineSeparator() {
+        assertArrayEquals(new int[]{0, 3, 5, 7}, MinimalSourcePrinter.retrieveLineStarts("a\r\nb\rc\nd"));
+        assertArrayEquals(new int[]{0}, MinimalSourcePrinter.retrieveLineStarts(""));
+    }
+
+    /**
+     * With "\r\n" line endings, only the parameters and the bodies of the replaced methods change,
+     * even for a method that follows other lines of the file.
+     */
+    @Test
+    public void shouldPatchTheReplacedMethodsWithCarriageReturns() {
+        String source = "class A {\r\n"
+                + "    // kept as it is\r\n"
+                + "    int f(int n) {\r\n"
+                + "        return n;\r\n"
+                + "    }\r\n"
+                + "\r\n"
+                + "    int  g ( int  x )  { return 0; }\r\n"
+                + "}\r\n";
+        List<MethodDeclaration> methods = parseMethods(source);
+        List<MethodReplacement> replacements = new ArrayList<>(Arrays.asList(
+                replace(methods.get(1), "{ return x + 1; }"),
+                replace(methods.get(0), "{ return n * 2; }")));
+        methods.get(0).getParameter(0).setName("m");
+
+        assertEquals(Optional.of("class A {\r\n"
+                        + "    // kept as it is\r\n"
+                        + "    int f(int m) {\r\n"
+                        + "        return n * 2;\r\n"
+                        + "    }\r\n"
+                        + "\r\n"
+                        + "    int  g ( int x )  {\r\n"
+                        + "        return x + 1;\r\n"
+                        + "    }\r\n"
+                        + "}\r\n"),
+                MinimalSourcePrinter.print(source, replacements, "\r\n"));
+    }
+
+    /**
+     * The parameters given to a method that had none are inserted after its open parenthesis.
+     */
+    @Test
+    public void shouldInsertParametersIntoAMethodWithoutParameters() {
+        String source = "class A {\n    int f ( ) { return 1; }\n}\n";
+        MethodDeclaration method = parseMethods(source).get(0);
+        MethodReplacement replacement = replace(method, "{ return n; }");
+        method.addParameter(new Parameter(PrimitiveType.intType(), "n"));
+
+        assertEquals(Optional.of("class A {\n    int f (int n ) {\n        return n;\n    }\n}\n"),
+                MinimalSourcePrinter.print(source, Collections.singletonList(replacement), "\n"));
+    }
+
+    /**
+     * Without replacements the source is returned as it is.
+     */
+    @Test
+    public void shouldKeepTheSourceWithoutReplacements() {
+        String source = "class A {\r\n}\r\n";
+
+        assertEquals(Optional.of(source), MinimalSourcePrinter.print(source, Collections.emptyList(), "\r\n"));
+    }
+
+    /**
+     * A method whose original positions are not known cannot be patched, so the whole file has to be printed again.
+     */
+    @Test
+    public void shouldFallBackWithoutPositions() {
+        MethodDeclaration method = new MethodDeclaration().setName("f").setBody(new BlockStmt());
+        MethodReplacement replacement = new MethodReplacement(method);
+
+        assertFalse(MinimalSourcePrinter.print("class A {\n}\n", Collections.singletonList(replacement), "\n").isPresent());
+    }
+
+    /**
+     * A source that does not match the positions of the parsed method cannot be patched.
+     */
+    @Test
+    public void shouldFallBackWhenTheSourceDoesNotMatch() {
+        String source = "class A {\n    int f(int n) { return n; }\n}\n";
+        MethodReplacement replacement = replace(parseMethods(source).get(0), "{ return 0; }");
+
+        assertFalse(MinimalSourcePrinter.print(source.replace("{ return", "  return"),
+                Collections.singletonList(replacement), "\n").isPresent());
+    }
+
+    /**
+     * The parameters cannot be inserted if something else than whitespace separates the name of the method from its parenthesis.
+     */
+    @Test
+    public void shouldFallBackWhenTheParenthesisIsNotFound() {
+        String source = "class A {\n    int f /* no parameters */ () { return 1; }\n}\n";
+        MethodDeclaration method = parseMethods(source).get(0);
+        MethodReplacement replacement = replace(method, "{ return n; }");
+        method.addParameter(new Parameter(PrimitiveType.intType(), "n"));
+
+        assertFalse(MinimalSourcePrinter.print(source, Collections.singletonList(replacement), "\n").isPresent());
+    }
+}
@@ -0,0 +1,58 @@
+package org.parser.file;
+
+import org.junit.After;
+import org.junit.Test;
+import org.parser.config.RunConfiguration;
+import org.parser.error.ErrorException;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for OutputWriter.
+ */
+public class OutputWriterTest {
+
+    /**
+     * Restores the default capacity of the queue of the writer.
+     */
+    @After
+    public void tearDown() {
+        System.clearProperty("parser.writer.queue");
+    }
+
+    /**
+     * An error of the virtual machine while writing a file is recorded as the failure of the writer,
+     * so the thread handing over the results is stopped instead of waiting forever for room in the queue.
+     *
+     * @throws ErrorException the error exception
+     */
+    @Test(timeout = 10000)
+    public void shouldStopSubmittingAfterAnErrorOfTheWriter() throws ErrorException {
+        System.setProperty("parser.writer.queue", "1");
+        ConversionResult result = new ConversionResult(new File("A.java"), "class A {\n}\n", false, true) {
+            @Override
+            public File getFile() {
+                throw new OutOfMemoryError("writing A.java");
+            }
+        };
+        OutputWriter writer = OutputWriter.start(RunConfiguration.fromSystemProperties());
+
+        try {
+            for (int i = 0; i < 1000; i++) {
+                writer.submit(result);
+            }
+            fail("The failure of the writer must be thrown");
+        } catch (ErrorException e) {
+            assertEquals(0, writer.getFilesWritten());
+        }
+        try {
+            writer.close();
+            fail("The failure of the writer must be thrown when it is closed");
+        } catch (ErrorException e) {
+            assertEquals(0, writer.getFilesWritten());
+        }
+    }
+}
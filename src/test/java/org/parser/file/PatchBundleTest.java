@@ -0,0 +1,59 @@
+package org.parser.file;
+
+import javafx.util.Pair;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Unit test for PatchBundle.
+ */
+public class PatchBundleTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Returns the bundle written with the charset passed as input for a single file whose context lines are not ASCII.
+     *
+     * @param charset the charset
+     * @return the bytes of the bundle
+     * @throws IOException the io exception
+     */
+    private byte[] writeBundle(Charset charset) throws IOException {
+        String source = "// caf\u00e9\nint f() { return 1; }\n// na\u00efve\n";
+        int start = source.indexOf("return 1;");
+        String hunks = UnifiedDiffPrinter.printHunks(source,
+                Collections.singletonList(new Pair<>(new int[]{start, start + "return 1;".length()}, "return 2;")));
+
+        Path target = folder.getRoot().toPath().resolve("bundle.patch");
+        PatchBundle bundle = PatchBundle.open(target, charset, false);
+        bundle.append("A.java", hunks);
+        bundle.commit();
+        return Files.readAllBytes(target);
+    }
+
+    /**
+     * The context lines keep the bytes they have in the user file, here encoded as ISO-8859-1,
+     * so that the bundle applies to it.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void shouldEncodeTheDiffsWithTheCharsetOfTheUserFiles() throws IOException {
+        String expected = "--- a/A.java\n+++ b/A.java\n"
+                + "@@ -1,3 +1,3 @@\n // caf\u00e9\n-int f() { return 1; }\n+int f() { return 2; }\n // na\u00efve\n";
+
+        assertArrayEquals(expected.getBytes(StandardCharsets.ISO_8859_1), writeBundle(StandardCharsets.ISO_8859_1));
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), writeBundle(StandardCharsets.UTF_8));
+    }
+}
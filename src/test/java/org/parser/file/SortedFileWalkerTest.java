@@ -0,0 +1,74 @@
+package org.parser.file;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for SortedFileWalker.
+ */
+public class SortedFileWalkerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Creates the empty files passed as input, relative to the temporary folder, together with their folders.
+     *
+     * @param names the names
+     * @throws IOException the io exception
+     */
+    private void createFiles(String... names) throws IOException {
+        for (String name : names) {
+            Path file = folder.getRoot().toPath().resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.createFile(file);
+        }
+    }
+
+    /**
+     * The files are returned depth-first, with the entries of every folder sorted by name, and the folders themselves are skipped.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void shouldReturnTheFilesInTheOrderOfTheirNames() throws IOException {
+        createFiles("b/Z.java", "a.java", "c.java", "b/A.java", "b/d/B.java", "b/c.java", "e/f/g/H.java");
+        Files.createDirectories(folder.getRoot().toPath().resolve("empty"));
+        Path root = folder.getRoot().toPath();
+
+        try (Stream<Path> files = SortedFileWalker.walk(root)) {
+            assertEquals(Arrays.asList("a.java", "b/A.java", "b/Z.java", "b/c.java", "b/d/B.java", "c.java", "e/f/g/H.java"),
+                    files.map(path -> root.relativize(path).toString().replace('\\', '/')).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * The first file is returned before the folders that follow it are listed, so they can still change.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void shouldListTheFoldersLazily() throws IOException {
+        createFiles("a/A.java", "b/B.java");
+        Path root = folder.getRoot().toPath();
+
+        try (Stream<Path> files = SortedFileWalker.walk(root)) {
+            Iterator<Path> iterator = files.iterator();
+            assertEquals(root.resolve("a/A.java"), iterator.next());
+            createFiles("b/A.java");
+            assertEquals(root.resolve("b/A.java"), iterator.next());
+            assertEquals(root.resolve("b/B.java"), iterator.next());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.parser.file;
+
+import javafx.util.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for UnifiedDiffPrinter.
+ */
+public class UnifiedDiffPrinterTest {
+
+    /**
+     * Returns the edit replacing the first occurrence of the text passed as input.
+     *
+     * @param source      the source
+     * @param text        the text
+     * @param replacement the replacement
+     * @return pair
+     */
+    private static Pair<int[], String> replace(String source, String text, String replacement) {
+        int start = source.indexOf(text);
+        return new Pair<>(new int[]{start, start + text.length()}, replacement);
+    }
+
+    /**
+     * Returns the lines "l0" to "l(count - 1)", each one ended by a line feed.
+     *
+     * @param count the count
+     * @return string
+     */
+    private static String lines(int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append('l').append(i).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The header names the file relative to the input folder on both sides.
+     */
+    @Test
+    public void shouldPrintTheHeader() {
+        assertEquals("--- a/pkg/A.java\n+++ b/pkg/A.java\n", UnifiedDiffPrinter.printHeader("pkg/A.java"));
+    }
+
+    /**
+     * A changed line is surrounded by three lines of context, and the header counts the lines of both sides.
+     */
+    @Test
+    public void shouldPrintAHunkWithContext() {
+        String source = lines(10);
+
+        assertEquals("@@ -3,7 +3,8 @@\n l2\n l3\n l4\n-l5\n+X\n+Y\n l6\n l7\n l8\n",
+                UnifiedDiffPrinter.printHunks(source, Collections.singletonList(replace(source, "l5", "X\nY"))));
+    }
+
+    /**
+     * The context is cut at the beginning and at the end of the file.
+     */
+    @Test
+    public void shouldCutTheContextAtTheEdgesOfTheFile() {
+        String source = lines(3);
+
+        assertEquals("@@ -1,3 +1,3 @@\n-l0\n+X\n l1\n l2\n",
+                UnifiedDiffPrinter.printHunks(source, Collections.singletonList(replace(source, "l0", "X"))));
+    }
+
+    /**
+     * Distant changes are printed as separate hunks, and the new line numbers of the second hunk
+     * take into account the lines added by the first one.
+     */
+    @Test
+    public void shouldShiftTheNewLinesOfTheFollowingHunks() {
+        String source = lines(20);
+        List<Pair<int[], String>> edits = new ArrayList<>(Arrays.asList(
+                replace(source, "l1\n", "X\nY\n"),
+                replace(source, "l15", "Z")));
+
+        assertEquals("@@ -1,5 +1,6 @@\n l0\n-l1\n+X\n+Y\n l2\n l3\n l4\n"
+                        + "@@ -13,7 +14,7 @@\n l12\n l13\n l14\n-l15\n+Z\n l16\n l17\n l18\n",
+                UnifiedDiffPrinter.printHunks(source, edits));
+    }
+
+    /**
+     * Changes separated by no more than six lines share the same hunk.
+     */
+    @Test
+    public void shouldMergeCloseChanges() {
+        String source = lines(12);
+        List<Pair<int[], String>> edits = new ArrayList<>(Arrays.asList(
+                replace(source, "l2", "X"),
+                replace(source, "l9", "Y")));
+
+        assertEquals("@@ -1,12 +1,12 @@\n l0\n l1\n-l2\n+X\n l3\n l4\n l5\n l6\n l7\n l8\n-l9\n+Y\n l10\n l11\n",
+                UnifiedDiffPrinter.printHunks(source, edits));
+    }
+
+    /**
+     * The last line of a file without a final line separator is marked, on the side where it lacks it.
+     */
+    @Test
+    public void shouldMarkTheMissingNewlineAtTheEndOfTheFile() {
+        String source = "a\nb";
+
+        assertEquals("@@ -1,2 +1,2 @@\n a\n-b\n\\ No newline at end of file\n+B\n\\ No newline at end of file\n",
+                UnifiedDiffPrinter.printHunks(source, Collections.singletonList(replace(source, "b", "B"))));
+        assertEquals("@@ -1,2 +1,2 @@\n a\n-b\n\\ No newline at end of file\n+B\n",
+                UnifiedDiffPrinter.printHunks(source, Collections.singletonList(replace(source, "b", "B\n"))));
+    }
+
+    /**
+     * Every line keeps its own line separator.
+     */
+    @Test
+    public void shouldKeepTheLineSeparators() {
+        String source = "a\r\nb\r\nc\r\n";
+
+        assertEquals("@@ -1,3 +1,3 @@\n a\r\n-b\r\n+B\r\n c\r\n",
+                UnifiedDiffPrinter.printHunks(source, Collections.singletonList(replace(source, "b", "B"))));
+    }
+
+    /**
+     * Edits that leave the text as it was produce no hunk.
+     */
+    @Test
+    public void shouldPrintNothingForUnchangedText() {
+        String source = lines(5);
+
+        assertEquals("", UnifiedDiffPrinter.printHunks(source, Collections.singletonList(replace(source, "l2", "l2"))));
+        assertEquals("", UnifiedDiffPrinter.printHunks(source, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,171 @@
+package org.parser;
+
+/**
+ * <h1> UserClass </h1>
+ *
+ * This class is used to test the operation of the application, providing recursive methods to be parsed and converted into the corresponding iterative versions.
+ */
+public class UserClass {
+
+    public int x;
+
+    private double y;
+
+    public int fattoriale(int dim) {
+        int f = 1;
+        while (dim > 0) f *= dim--;
+        return f;
+    }
+
+    static void bubbleSort(int[] vec, int dim) {
+        for (int i = 0; i < dim - 1; i++) {
+            for (int j = 0; j < vec[j + 1]; j++) {
+                int tmp = vec[j];
+                vec[j] = vec[j + 1];
+                vec[j + 1] = tmp;
+            }
+        }
+    }
+
+    static int minIndex(int[] a, int i, int j) {
+        if (i == j)
+            return i;
+        int k = minIndex(a, i + 1, j);
+        return (a[i] < a[k]) ? i : k;
+    }
+
+    static void recurSelectionSort(int[] a) {
+        int n = a.length;
+        for (int i = 0; i < n - 1; i++) {
+            int min_idx = i;
+            for (int j = i + 1; j < n; j++) if (a[j] < a[min_idx])
+                min_idx = j;
+            int temp = a[min_idx];
+            a[min_idx] = a[i];
+            a[i] = temp;
+        }
+    }
+
+    static void insertionSortRecursive(int[] arr) {
+        int n = arr.length;
+        for (int i = 1; i < n; ++i) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= 0 && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j = j - 1;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    public int partition(int[] arr, int low, int high) {
+        int pivot = arr[high];
+        int i = (low - 1);
+        for (int j = low; j < high; j++) {
+            if (arr[j] < pivot) {
+                i++;
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+        }
+        int temp = arr[i + 1];
+        arr[i + 1] = arr[high];
+        arr[high] = temp;
+        return i + 1;
+    }
+
+    public void quickSort(int[] arr, int l, int h) {
+        int[] stack = new int[h - l + 1];
+        int top = -1;
+        stack[++top] = l;
+        stack[++top] = h;
+        while (top >= 0) {
+            h = stack[top--];
+            l = stack[top--];
+            int p = partition(arr, l, h);
+            if (p - 1 > l) {
+                stack[++top] = l;
+                stack[++top] = p - 1;
+            }
+            if (p + 1 < h) {
+                stack[++top] = p + 1;
+                stack[++top] = h;
+            }
+        }
+    }
+
+    public void merge(int[] arr, int l, int m, int r) {
+        int n1 = m - l + 1;
+        int n2 = r - m;
+        int[] L = new int[n1];
+        int[] R = new int[n2];
+        for (int i = 0; i < n1; ++i) L[i] = arr[l + i];
+        for (int j = 0; j < n2; ++j) R[j] = arr[m + 1 + j];
+        int i = 0, j = 0;
+        int k = l;
+        while (i < n1 && j < n2) {
+            if (L[i] <= R[j]) {
+                arr[k] = L[i];
+                i++;
+            } else {
+                arr[k] = R[j];
+                j++;
+            }
+            k++;
+        }
+        while (i < n1) {
+            arr[k] = L[i];
+            i++;
+            k++;
+        }
+        while (j < n2) {
+            arr[k] = R[j];
+            j++;
+            k++;
+        }
+    }
+
+    public void mergeSort(int[] arr) {
+        if (arr == null) {
+            return;
+        }
+        if (arr.length > 1) {
+            int mid = arr.length / 2;
+            int[] left = new int[mid];
+            for (int i = 0; i < mid; i++) {
+                left[i] = arr[i];
+            }
+            int[] right = new int[arr.length - mid];
+            for (int i = mid; i < arr.length; i++) {
+                right[i - mid] = arr[i];
+            }
+            mergeSort(left);
+            mergeSort(right);
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] < right[j]) {
+                    arr[k] = left[i];
+                    i++;
+                } else {
+                    arr[k] = right[j];
+                    j++;
+                }
+                k++;
+            }
+            while (i < left.length) {
+                arr[k] = left[i];
+                i++;
+                k++;
+            }
+            while (j < right.length) {
+                arr[k] = right[j];
+                j++;
+                k++;
+            }
+        }
+    }
+}